@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# Compara el tiempo de arranque del CLI en modo batch:
+#   - jar        : java -jar (sin CDS de la aplicación)
+#   - jar+cds    : java -XX:SharedArchiveFile=... -jar   (requiere mvn -P cds package)
+#   - native     : ejecutable de GraalVM                 (requiere mvn -P native package)
+# Los modos cuyo artefacto no existe se omiten.
+#
+# Uso: scripts/startup-benchmark.sh [iteraciones] [archivo de entrada]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-20}"
+INPUT="${2:-src/cds/training.csv}"
+JAR="target/grade-calculator-1.0-SNAPSHOT-jar-with-dependencies.jar"
+JSA="target/grade-calculator.jsa"
+NATIVE="target/grade-calculator"
+OUTPUT="$(mktemp)"
+trap 'rm -f "$OUTPUT"' EXIT
+
+# Ejecuta el comando RUNS veces (después de una ejecución de calentamiento del disco) e imprime el promedio en ms
+measure() {
+    local name="$1"
+    shift
+    "$@" --input "$INPUT" --output "$OUTPUT" 2>/dev/null
+    local start end
+    start=$(date +%s%N)
+    for ((i = 0; i < RUNS; i++)); do
+        "$@" --input "$INPUT" --output "$OUTPUT" 2>/dev/null
+    done
+    end=$(date +%s%N)
+    local micros=$(( (end - start) / 1000 / RUNS ))
+    printf '%-10s %5d.%01d ms/run (%d runs)\n' "$name" $((micros / 1000)) $((micros % 1000 / 100)) "$RUNS"
+}
+
+if [[ ! -f "$JAR" ]]; then
+    echo "No existe $JAR: ejecutar 'mvn package' (o 'mvn -P cds package') primero" >&2
+    exit 1
+fi
+
+measure "jar" java -jar "$JAR"
+if [[ -f "$JSA" ]]; then
+    measure "jar+cds" java -XX:SharedArchiveFile="$JSA" -Xshare:auto -jar "$JAR"
+else
+    echo "jar+cds    omitido (no existe $JSA)"
+fi
+if [[ -x "$NATIVE" ]]; then
+    measure "native" "$NATIVE"
+else
+    echo "native     omitido (no existe $NATIVE)"
+fi
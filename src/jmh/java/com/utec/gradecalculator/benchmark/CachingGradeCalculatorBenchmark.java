@@ -0,0 +1,76 @@
+package com.utec.gradecalculator.benchmark;
+
+import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.GradeResult;
+import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.policy.AllYearsTeachersPolicy;
+import com.utec.gradecalculator.policy.AttendancePolicy;
+import com.utec.gradecalculator.policy.DefaultAttendancePolicy;
+import com.utec.gradecalculator.policy.ExtraPointsPolicy;
+import com.utec.gradecalculator.service.CachingGradeCalculator;
+import com.utec.gradecalculator.service.GradeCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Acierto de {@link CachingGradeCalculator} frente a recalcular con {@link GradeCalculator},
+ * con y sin leer el detalle del resultado (lo que más cuesta generar).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CachingGradeCalculatorBenchmark {
+
+    @Param({"1", "10"})
+    public int evaluations;
+
+    private final GradeCalculator calculator = new GradeCalculator();
+    private final CachingGradeCalculator cache = new CachingGradeCalculator(calculator, 1_024);
+    private final AttendancePolicy attendancePolicy = new DefaultAttendancePolicy(5.0);
+    private final ExtraPointsPolicy extraPointsPolicy = new AllYearsTeachersPolicy(2.5);
+    private Student student;
+
+    @Setup
+    public void setUp() {
+        student = new Student("bench");
+        student.setHasReachedMinClasses(true);
+        for (int i = 0; i < evaluations; i++) {
+            student.addEvaluation(new Evaluation(50.0 + i * 4.5, 10.0));
+        }
+        cache.calculateFinalGrade(student, attendancePolicy, extraPointsPolicy, true);
+    }
+
+    @Benchmark
+    public GradeResult recompute() {
+        return calculator.calculateFinalGrade(student, attendancePolicy, extraPointsPolicy, true);
+    }
+
+    @Benchmark
+    public GradeResult cacheHit() {
+        return cache.calculateFinalGrade(student, attendancePolicy, extraPointsPolicy, true);
+    }
+
+    @Benchmark
+    public String recomputeWithDetail() {
+        return calculator.calculateFinalGrade(student, attendancePolicy, extraPointsPolicy, true).getDetail();
+    }
+
+    @Benchmark
+    public String cacheHitWithDetail() {
+        return cache.calculateFinalGrade(student, attendancePolicy, extraPointsPolicy, true).getDetail();
+    }
+}
@@ -0,0 +1,73 @@
+package com.utec.gradecalculator.benchmark;
+
+import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.FixedPointFormat;
+import com.utec.gradecalculator.domain.GradeResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de construir los value objects del dominio y de generar el texto de detalle.
+ *
+ * {@link #detailWithStringFormat()} reproduce el formato previo basado en String.format
+ * como línea base frente al formateador de punto fijo.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DomainBenchmark {
+
+    // Campos no final: evitan que el JIT pliegue las constantes
+    private double score = 87.25;
+    private double weight = 30.0;
+    private double weightedAverage = 83.3333333;
+    private double sumWeights = 90.0;
+    private double penalty = 5.0;
+    private double extraPoints = 2.5;
+    private double finalGrade = 80.8333333;
+
+    @Benchmark
+    public Evaluation newEvaluation() {
+        return new Evaluation(score, weight);
+    }
+
+    @Benchmark
+    public GradeResult newGradeResultWithDetail() {
+        return new GradeResult(weightedAverage, penalty, extraPoints, finalGrade, "detail");
+    }
+
+    @Benchmark
+    public GradeResult newGradeResultLazyDetail() {
+        return GradeResult.withLazyDetail(weightedAverage, sumWeights, penalty, extraPoints, finalGrade);
+    }
+
+    @Benchmark
+    public String detailWithFixedPointFormat() {
+        return GradeResult.withLazyDetail(weightedAverage, sumWeights, penalty, extraPoints, finalGrade)
+                .getDetail();
+    }
+
+    @Benchmark
+    public String detailWithStringFormat() {
+        return String.format(
+                "weightedAverage=%.4f, sumWeights=%.4f, penalty=%.4f, extraPoints=%.4f, finalGrade=%.4f",
+                weightedAverage, sumWeights, penalty, extraPoints, finalGrade);
+    }
+
+    @Benchmark
+    public String formatSingleValue() {
+        return FixedPointFormat.format(weightedAverage);
+    }
+}
@@ -0,0 +1,84 @@
+package com.utec.gradecalculator.benchmark;
+
+import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.GradeResult;
+import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.policy.AllYearsTeachersPolicy;
+import com.utec.gradecalculator.policy.AttendancePolicy;
+import com.utec.gradecalculator.policy.DefaultAttendancePolicy;
+import com.utec.gradecalculator.policy.ExtraPointsPolicy;
+import com.utec.gradecalculator.service.GradeCalculator;
+import com.utec.gradecalculator.service.GradingMetrics;
+import com.utec.gradecalculator.service.GradingMode;
+import com.utec.gradecalculator.service.GradingPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput de {@link GradeCalculator#calculateFinalGrade} para 0, 1 y 10 evaluaciones
+ * y para cada combinación de políticas (asistencia cumplida o no, consenso sí o no),
+ * en ambos modos de aritmética ({@link GradingMode}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GradeCalculatorBenchmark {
+
+    @Param({"0", "1", "10"})
+    public int evaluations;
+
+    @Param({"true", "false"})
+    public boolean reachedMinClasses;
+
+    @Param({"true", "false"})
+    public boolean allYearsTeachers;
+
+    @Param({"FLOATING_POINT", "FIXED_POINT"})
+    public GradingMode mode;
+
+    private GradeCalculator calculator;
+    private final AttendancePolicy attendancePolicy = new DefaultAttendancePolicy(5.0);
+    private final ExtraPointsPolicy extraPointsPolicy = new AllYearsTeachersPolicy(2.5);
+    private final GradingPlan plan = GradingPlan.compile(attendancePolicy, extraPointsPolicy);
+    private Student student;
+
+    @Setup
+    public void setUp() {
+        calculator = new GradeCalculator(GradingMetrics.NOOP, mode);
+        student = new Student("bench");
+        student.setHasReachedMinClasses(reachedMinClasses);
+        for (int i = 0; i < evaluations; i++) {
+            student.addEvaluation(new Evaluation(50.0 + i * 4.5, 10.0));
+        }
+    }
+
+    @Benchmark
+    public GradeResult calculateFinalGrade() {
+        return calculator.calculateFinalGrade(student, attendancePolicy, extraPointsPolicy, allYearsTeachers);
+    }
+
+    @Benchmark
+    public GradeResult calculateFinalGradeWithPlan() {
+        return calculator.calculateFinalGrade(student, plan, allYearsTeachers);
+    }
+
+    @Benchmark
+    public String calculateFinalGradeWithDetail() {
+        return calculator.calculateFinalGrade(student, attendancePolicy, extraPointsPolicy, allYearsTeachers)
+                .getDetail();
+    }
+}
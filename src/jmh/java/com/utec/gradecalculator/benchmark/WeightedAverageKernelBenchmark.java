@@ -0,0 +1,75 @@
+package com.utec.gradecalculator.benchmark;
+
+import com.utec.gradecalculator.domain.CohortTable;
+import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.service.WeightedAverageKernel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kernel escalar vs. vectorial sobre una cohorte columnar de 100k estudiantes.
+ * El kernel vectorial solo existe con el perfil {@code vector}: {@code mvn -P benchmark,vector ...}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class WeightedAverageKernelBenchmark {
+
+    @Param({"1", "10"})
+    public int evaluationsPerStudent;
+
+    private int studentCount;
+    private double[] scores;
+    private double[] weights;
+    private int[] offsets;
+    private double[] out;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            Student s = new Student("s" + i);
+            for (int j = 0; j < evaluationsPerStudent; j++) {
+                s.addEvaluation(new Evaluation(random.nextDouble() * 100.0, 1.0 + random.nextInt(30)));
+            }
+            students.add(s);
+        }
+        CohortTable cohort = CohortTable.fromStudents(students);
+        studentCount = cohort.size();
+        scores = cohort.scoreColumn();
+        weights = cohort.weightColumn();
+        offsets = cohort.offsetColumn();
+        out = new double[studentCount];
+    }
+
+    @Benchmark
+    public double[] scalar() {
+        WeightedAverageKernel.scalar().weightedAverages(scores, weights, offsets, studentCount, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] vectorized() {
+        WeightedAverageKernel.vectorized().weightedAverages(scores, weights, offsets, studentCount, out);
+        return out;
+    }
+}
@@ -0,0 +1,142 @@
+package com.utec.gradecalculator.cli;
+
+import com.utec.gradecalculator.domain.GradeResult;
+import com.utec.gradecalculator.policy.AttendancePolicy;
+import com.utec.gradecalculator.policy.ExtraPointsPolicy;
+import com.utec.gradecalculator.service.GradeCalculator;
+import com.utec.gradecalculator.service.GradingPlan;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Modo batch no interactivo: lee registros CSV/TSV (ver {@link GradeRecord}) línea a línea,
+ * califica cada uno y escribe el resultado de inmediato.
+ *
+ * - Memoria constante: nunca se mantiene más de una línea en memoria.
+ * - Las líneas mal formadas se reportan con su número de línea y se omiten; la ejecución continúa.
+ * - Se ignoran líneas vacías, comentarios (#) y una cabecera inicial cuyo primer campo sea "id".
+ */
+public final class BatchGrader {
+
+    private final GradeCalculator calculator;
+    private final GradingPlan plan;
+    private final char delimiter;
+
+    public BatchGrader(GradeCalculator calculator,
+                       AttendancePolicy attendancePolicy,
+                       ExtraPointsPolicy extraPointsPolicy,
+                       char delimiter) {
+        this.calculator = Objects.requireNonNull(calculator, "calculator must not be null");
+        // Se compila una vez: cada línea reutiliza las penalizaciones y puntos extra constantes ya validados
+        this.plan = GradingPlan.compile(attendancePolicy, extraPointsPolicy);
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Delimitador según la extensión del archivo: tabulador para .tsv, coma en otro caso.
+     */
+    public static char delimiterFor(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".tsv") ? '\t' : ',';
+    }
+
+    /**
+     * Procesa el archivo de entrada completo y escribe los resultados en el de salida (UTF-8).
+     */
+    public Summary run(Path input, Path output, PrintWriter errors) throws IOException {
+        try (BufferedReader in = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+             BufferedWriter out = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            return run(in, out, errors);
+        }
+    }
+
+    /**
+     * Procesa todas las líneas de {@code in}. No cierra los flujos recibidos.
+     *
+     * @param in     entrada con un registro por línea
+     * @param out    salida de resultados (se escribe una cabecera y una línea por registro válido)
+     * @param errors destino de los mensajes de líneas rechazadas
+     * @return resumen con el número de registros calificados y rechazados
+     */
+    public Summary run(BufferedReader in, BufferedWriter out, PrintWriter errors) throws IOException {
+        Objects.requireNonNull(in, "in must not be null");
+        Objects.requireNonNull(out, "out must not be null");
+        Objects.requireNonNull(errors, "errors must not be null");
+
+        out.write(GradeRecord.header(delimiter));
+        out.newLine();
+
+        long graded = 0;
+        long rejected = 0;
+        long lineNumber = 0;
+        boolean firstRecord = true;
+        String line;
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            if (firstRecord) {
+                firstRecord = false;
+                if (isHeader(trimmed)) {
+                    continue;
+                }
+            }
+            try {
+                GradeRecord record = GradeRecord.parse(trimmed, delimiter);
+                GradeResult result = calculator.calculateFinalGrade(record.getStudent(), plan,
+                        record.isAllYearsTeachers());
+                out.write(GradeRecord.format(record.getStudent().getId(), result, delimiter));
+                out.newLine();
+                graded++;
+            } catch (IllegalArgumentException | IllegalStateException ex) {
+                errors.println("line " + lineNumber + ": " + ex.getMessage());
+                rejected++;
+            }
+        }
+        out.flush();
+        errors.flush();
+        return new Summary(graded, rejected);
+    }
+
+    private boolean isHeader(String line) {
+        int end = line.indexOf(delimiter);
+        String first = (end < 0) ? line : line.substring(0, end);
+        return first.trim().equalsIgnoreCase("id");
+    }
+
+    /**
+     * Resumen de una ejecución batch.
+     */
+    public static final class Summary {
+        private final long graded;
+        private final long rejected;
+
+        Summary(long graded, long rejected) {
+            this.graded = graded;
+            this.rejected = rejected;
+        }
+
+        public long getGraded() {
+            return graded;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        @Override
+        public String toString() {
+            return "graded=" + graded + ", rejected=" + rejected;
+        }
+    }
+}
@@ -9,15 +9,148 @@ import com.utec.gradecalculator.policy.DefaultAttendancePolicy;
 import com.utec.gradecalculator.policy.AttendancePolicy;
 import com.utec.gradecalculator.policy.ExtraPointsPolicy;
 import com.utec.gradecalculator.service.GradeCalculator;
+import com.utec.gradecalculator.service.GradingMetrics;
+import com.utec.gradecalculator.service.RecordingGradingMetrics;
 
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.file.Path;
 import java.util.Scanner;
 
 /**
  * CLI mínimo: ejecución por terminal según el enunciado.
+ *
+ * Sin argumentos se ejecuta en modo interactivo (un estudiante por ejecución).
+ * Con {@code --input <archivo> --output <archivo>} se ejecuta en modo batch sobre un
+ * archivo CSV/TSV (ver {@link BatchGrader}); {@code --metrics} agrega al final un volcado de
+ * métricas del cálculo por stderr.
+ * Con {@code --server <puerto|unix:ruta>} queda residente atendiendo solicitudes por socket local
+ * (ver {@link GradingServer}).
+ *
+ * Código de salida en modo batch y servidor: 0 si terminó bien, {@value #EXIT_USAGE} si los argumentos
+ * no son válidos (se imprime el uso) y {@value #EXIT_FAILURE} si falló la lectura/escritura o el socket.
  */
 public class ConsoleApp {
 
+    // Políticas configurables: puedes exponer por args o config; aquí se usan valores razonables.
+    private static final double PENALTY_POINTS = 5.0; // ejemplo: 5 puntos si no cumple asistencia
+    private static final double EXTRA_POINTS = 2.5;   // ejemplo: +2.5 si consenso
+
+    private static final String UNIX_PREFIX = "unix:";
+    // Conexiones simultáneas en modo servidor cuando no hay hilos virtuales
+    private static final int SERVER_MAX_CONNECTIONS = 64;
+
+    static final int EXIT_OK = 0;
+    static final int EXIT_FAILURE = 1;
+    static final int EXIT_USAGE = 2;
+
     public static void main(String[] args) {
+        int status = run(args);
+        if (status != EXIT_OK) {
+            System.exit(status);
+        }
+    }
+
+    // Separado de main para poder probar el código de salida sin terminar la JVM
+    static int run(String[] args) {
+        if (args.length == 0) {
+            runInteractive();
+            return EXIT_OK;
+        }
+        if ("--server".equals(args[0])) {
+            return runServer(args);
+        }
+        return runBatch(args);
+    }
+
+    private static int runBatch(String[] args) {
+        Path input = null;
+        Path output = null;
+        boolean withMetrics = false;
+        for (int i = 0; i < args.length; i++) {
+            if ("--input".equals(args[i]) && i + 1 < args.length) {
+                input = Path.of(args[++i]);
+            } else if ("--output".equals(args[i]) && i + 1 < args.length) {
+                output = Path.of(args[++i]);
+            } else if ("--metrics".equals(args[i])) {
+                withMetrics = true;
+            } else {
+                printUsage();
+                return EXIT_USAGE;
+            }
+        }
+        if (input == null || output == null) {
+            printUsage();
+            return EXIT_USAGE;
+        }
+
+        PrintWriter errors = new PrintWriter(System.err, true);
+        RecordingGradingMetrics metrics = withMetrics ? new RecordingGradingMetrics() : null;
+        GradingMetrics sink = withMetrics ? metrics : GradingMetrics.NOOP;
+        BatchGrader grader = new BatchGrader(new GradeCalculator(sink),
+                new DefaultAttendancePolicy(PENALTY_POINTS),
+                new AllYearsTeachersPolicy(EXTRA_POINTS),
+                BatchGrader.delimiterFor(input));
+        try {
+            BatchGrader.Summary summary = grader.run(input, output, errors);
+            errors.println("Batch finished: " + summary);
+            if (metrics != null) {
+                errors.print(metrics.dump());
+                errors.flush();
+            }
+            return EXIT_OK;
+        } catch (IOException ex) {
+            errors.println("Error: " + ex.getMessage());
+            return EXIT_FAILURE;
+        }
+    }
+
+    private static int runServer(String[] args) {
+        if (args.length != 2) {
+            printUsage();
+            return EXIT_USAGE;
+        }
+        SocketAddress address;
+        if (args[1].startsWith(UNIX_PREFIX)) {
+            address = UnixDomainSocketAddress.of(args[1].substring(UNIX_PREFIX.length()));
+        } else {
+            try {
+                address = new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(args[1]));
+            } catch (IllegalArgumentException ex) {
+                printUsage();
+                return EXIT_USAGE;
+            }
+        }
+
+        try (GradingServer server = GradingServer.start(new GradeCalculator(),
+                new DefaultAttendancePolicy(PENALTY_POINTS),
+                new AllYearsTeachersPolicy(EXTRA_POINTS),
+                address,
+                SERVER_MAX_CONNECTIONS)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+            System.err.println("Grading server listening on " + server.getLocalAddress());
+            server.awaitClose();
+            return EXIT_OK;
+        } catch (IOException ex) {
+            System.err.println("Error: " + ex.getMessage());
+            return EXIT_FAILURE;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return EXIT_FAILURE;
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: ConsoleApp                                            (interactive mode)");
+        System.err.println("       ConsoleApp --input <file.csv|tsv> --output <file> [--metrics]  (batch mode)");
+        System.err.println("       ConsoleApp --server <port|unix:/path/to/socket>        (server mode)");
+    }
+
+    private static void runInteractive() {
         Scanner sc = new Scanner(System.in);
         try {
             System.out.print("Student id: ");
@@ -44,9 +177,8 @@ public class ConsoleApp {
             String all = sc.nextLine().trim().toLowerCase();
             boolean allYearsTeachers = all.equals("y") || all.equals("yes");
 
-            // Políticas configurables: puedes exponer por args o config; aquí se usan valores razonables.
-            AttendancePolicy attendancePolicy = new DefaultAttendancePolicy(5.0); // ejemplo: 5 puntos si no cumple asistencia
-            ExtraPointsPolicy extraPointsPolicy = new AllYearsTeachersPolicy(2.5); // ejemplo: +2.5 si consenso
+            AttendancePolicy attendancePolicy = new DefaultAttendancePolicy(PENALTY_POINTS);
+            ExtraPointsPolicy extraPointsPolicy = new AllYearsTeachersPolicy(EXTRA_POINTS);
 
             GradeCalculator calc = new GradeCalculator();
             GradeResult result = calc.calculateFinalGrade(student, attendancePolicy, extraPointsPolicy, allYearsTeachers);
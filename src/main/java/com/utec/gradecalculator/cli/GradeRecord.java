@@ -0,0 +1,135 @@
+package com.utec.gradecalculator.cli;
+
+import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.FixedPointFormat;
+import com.utec.gradecalculator.domain.GradeResult;
+import com.utec.gradecalculator.domain.Student;
+
+import java.util.Locale;
+
+/**
+ * Registro de texto delimitado (CSV/TSV) con los datos de un estudiante a calificar.
+ *
+ * Formato de entrada:
+ * {@code id, asistencia, consenso, nota1, peso1, nota2, peso2, ...}
+ * donde asistencia y consenso aceptan y/yes/true/1 o n/no/false/0.
+ *
+ * Formato de salida:
+ * {@code id, weightedAverage, penalty, extraPoints, finalGrade} con 4 decimales.
+ */
+final class GradeRecord {
+
+    private static final String[] OUTPUT_HEADER_FIELDS = {"id", "weightedAverage", "penalty", "extraPoints", "finalGrade"};
+
+    private static final int FIXED_FIELDS = 3;
+
+    private final Student student;
+    private final boolean allYearsTeachers;
+
+    private GradeRecord(Student student, boolean allYearsTeachers) {
+        this.student = student;
+        this.allYearsTeachers = allYearsTeachers;
+    }
+
+    Student getStudent() {
+        return student;
+    }
+
+    boolean isAllYearsTeachers() {
+        return allYearsTeachers;
+    }
+
+    /**
+     * Interpreta una línea de entrada.
+     *
+     * @throws IllegalArgumentException si la línea no cumple el formato o algún valor es inválido
+     */
+    static GradeRecord parse(String line, char delimiter) {
+        String[] fields = split(line, delimiter);
+        if (fields.length < FIXED_FIELDS) {
+            throw new IllegalArgumentException("expected at least " + FIXED_FIELDS
+                    + " fields (id, attendance, consensus) but found " + fields.length);
+        }
+        if ((fields.length - FIXED_FIELDS) % 2 != 0) {
+            throw new IllegalArgumentException("evaluations must be given as score/weight pairs");
+        }
+        int evaluations = (fields.length - FIXED_FIELDS) / 2;
+        if (evaluations > Student.MAX_EVALUATIONS) {
+            throw new IllegalArgumentException("Maximum number of evaluations (" + Student.MAX_EVALUATIONS
+                    + ") exceeded: " + evaluations);
+        }
+
+        Student student = new Student(fields[0]);
+        student.setHasReachedMinClasses(parseFlag(fields[1], "attendance"));
+        boolean allYearsTeachers = parseFlag(fields[2], "consensus");
+
+        for (int i = FIXED_FIELDS; i < fields.length; i += 2) {
+            double score = parseNumber(fields[i], "score");
+            double weight = parseNumber(fields[i + 1], "weight");
+            student.addEvaluation(new Evaluation(score, weight));
+        }
+        return new GradeRecord(student, allYearsTeachers);
+    }
+
+    /**
+     * Da formato de salida a un resultado.
+     */
+    static String format(String id, GradeResult result, char delimiter) {
+        StringBuilder sb = new StringBuilder(id.length() + 48);
+        sb.append(id);
+        FixedPointFormat.append(sb.append(delimiter), result.getWeightedAverage());
+        FixedPointFormat.append(sb.append(delimiter), result.getPenalty());
+        FixedPointFormat.append(sb.append(delimiter), result.getExtraPoints());
+        FixedPointFormat.append(sb.append(delimiter), result.getFinalGrade());
+        return sb.toString();
+    }
+
+    static String header(char delimiter) {
+        return String.join(String.valueOf(delimiter), OUTPUT_HEADER_FIELDS);
+    }
+
+    private static boolean parseFlag(String raw, String name) {
+        switch (raw.toLowerCase(Locale.ROOT)) {
+            case "y":
+            case "yes":
+            case "true":
+            case "1":
+                return true;
+            case "n":
+            case "no":
+            case "false":
+            case "0":
+                return false;
+            default:
+                throw new IllegalArgumentException(name + " must be y/n (was: '" + raw + "')");
+        }
+    }
+
+    private static double parseNumber(String raw, String name) {
+        try {
+            return Double.parseDouble(raw);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(name + " is not a number (was: '" + raw + "')");
+        }
+    }
+
+    // Separación manual por carácter: evita compilar expresiones regulares por línea.
+    private static String[] split(String line, char delimiter) {
+        int count = 1;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == delimiter) {
+                count++;
+            }
+        }
+        String[] fields = new String[count];
+        int start = 0;
+        int f = 0;
+        for (int i = 0; i <= line.length(); i++) {
+            if (i == line.length() || line.charAt(i) == delimiter) {
+                fields[f++] = line.substring(start, i).trim();
+                start = i + 1;
+            }
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,268 @@
+package com.utec.gradecalculator.cli;
+
+import com.utec.gradecalculator.domain.GradeResult;
+import com.utec.gradecalculator.policy.AttendancePolicy;
+import com.utec.gradecalculator.policy.ExtraPointsPolicy;
+import com.utec.gradecalculator.service.GradeCalculator;
+import com.utec.gradecalculator.service.GradingPlan;
+import com.utec.gradecalculator.service.TaskExecutors;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Modo servidor residente: evita iniciar una JVM por cada cálculo cuando otro proceso necesita
+ * muchas notas (el JIT y las clases cargadas se aprovechan entre millones de solicitudes).
+ *
+ * Escucha en un socket local TCP (solo loopback) o Unix-domain. Protocolo de texto UTF-8, una
+ * solicitud por línea con el mismo formato que el modo batch (ver {@link GradeRecord}, separador coma):
+ *  - solicitud: {@code id,asistencia,consenso,nota1,peso1,...}
+ *  - respuesta: {@code id,weightedAverage,penalty,extraPoints,finalGrade}, o {@code ERR <mensaje>}
+ *    si la línea es inválida. Las líneas vacías o que empiezan con # no reciben respuesta.
+ *  - una línea de más de {@link #MAX_LINE_BYTES} bytes recibe {@code ERR line too long} y se
+ *    descarta hasta el siguiente salto de línea (la conexión sigue atendiendo las demás).
+ *
+ * Las respuestas llegan en el orden de las solicitudes; el cliente puede enviar muchas sin esperar
+ * (pipelining): las respuestas a todas las líneas completas recibidas en una misma lectura del socket
+ * se escriben juntas, con una sola escritura.
+ * Cada conexión se atiende en su propia tarea (hilo virtual si la JVM lo permite; si no, un pool
+ * fijo de {@code maxConnections} hilos, y las conexiones adicionales esperan turno).
+ */
+public final class GradingServer implements AutoCloseable {
+
+    private static final char DELIMITER = ',';
+    private static final int READ_BUFFER_BYTES = 1 << 16;
+    /** Tamaño máximo de una línea de solicitud (sin el salto); una válida ocupa unos cientos de bytes. */
+    static final int MAX_LINE_BYTES = 8 * 1024;
+    static final String LINE_TOO_LONG = "ERR line too long";
+
+    private final GradeCalculator calculator;
+    private final GradingPlan plan;
+    private final ServerSocketChannel serverChannel;
+    private final SocketAddress localAddress;
+    private final ExecutorService connections;
+    private final Set<SocketChannel> open = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean closing = new AtomicBoolean();
+    private final CountDownLatch closed = new CountDownLatch(1);
+    private final Thread acceptor;
+
+    private GradingServer(GradeCalculator calculator, GradingPlan plan, ServerSocketChannel serverChannel,
+                          int maxConnections) throws IOException {
+        this.calculator = calculator;
+        this.plan = plan;
+        this.serverChannel = serverChannel;
+        this.localAddress = serverChannel.getLocalAddress();
+        this.connections = TaskExecutors.newPerTaskOrFixedExecutor(maxConnections, "grading-server");
+        this.acceptor = new Thread(this::acceptLoop, "grading-server-acceptor");
+        this.acceptor.setDaemon(true);
+    }
+
+    /**
+     * Abre el servidor y empieza a aceptar conexiones.
+     *
+     * @param address        {@link InetSocketAddress} (puerto 0 = cualquiera libre) o {@link UnixDomainSocketAddress}
+     * @param maxConnections conexiones atendidas a la vez si no hay hilos virtuales (> 0)
+     * @throws IllegalArgumentException si la dirección TCP no es de loopback
+     */
+    public static GradingServer start(GradeCalculator calculator,
+                                      AttendancePolicy attendancePolicy,
+                                      ExtraPointsPolicy extraPointsPolicy,
+                                      SocketAddress address,
+                                      int maxConnections) throws IOException {
+        Objects.requireNonNull(calculator, "calculator must not be null");
+        GradingPlan plan = GradingPlan.compile(attendancePolicy, extraPointsPolicy);
+        Objects.requireNonNull(address, "address must not be null");
+        if (maxConnections <= 0) {
+            throw new IllegalArgumentException("maxConnections must be > 0");
+        }
+
+        ServerSocketChannel channel;
+        if (address instanceof UnixDomainSocketAddress) {
+            channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        } else if (address instanceof InetSocketAddress) {
+            InetSocketAddress inet = (InetSocketAddress) address;
+            if (inet.getAddress() == null || !inet.getAddress().isLoopbackAddress()) {
+                throw new IllegalArgumentException("TCP address must be a loopback address (was: " + address + ")");
+            }
+            channel = ServerSocketChannel.open();
+        } else {
+            throw new IllegalArgumentException("Unsupported address type: " + address.getClass().getName());
+        }
+
+        try {
+            channel.bind(address);
+            GradingServer server = new GradingServer(calculator, plan, channel, maxConnections);
+            server.acceptor.start();
+            return server;
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Dirección efectiva (incluye el puerto asignado cuando se pidió el puerto 0).
+     */
+    public SocketAddress getLocalAddress() {
+        return localAddress;
+    }
+
+    /**
+     * Bloquea hasta que el servidor se cierre.
+     */
+    public void awaitClose() throws InterruptedException {
+        closed.await();
+    }
+
+    private void acceptLoop() {
+        try {
+            while (true) {
+                SocketChannel client = serverChannel.accept();
+                open.add(client);
+                if (closing.get()) {
+                    // close() ya recorrió las conexiones abiertas: esta no la cerraría nadie
+                    open.remove(client);
+                    client.close();
+                    return;
+                }
+                try {
+                    connections.execute(() -> serve(client));
+                } catch (RejectedExecutionException ex) {
+                    // close() en curso
+                    open.remove(client);
+                    client.close();
+                }
+            }
+        } catch (IOException ex) {
+            // ClosedChannelException tras close() es el fin normal; otro error también detiene el servidor
+        } finally {
+            close();
+        }
+    }
+
+    private void serve(SocketChannel client) {
+        ByteBuffer input = ByteBuffer.allocate(READ_BUFFER_BYTES);
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        StringBuilder responses = new StringBuilder();
+        // Tras superar MAX_LINE_BYTES se descarta el resto de la línea sin acumularlo
+        boolean discarding = false;
+        try (SocketChannel c = client) {
+            while (c.read(input) != -1) {
+                input.flip();
+                while (input.hasRemaining()) {
+                    byte b = input.get();
+                    if (b == '\n') {
+                        if (discarding) {
+                            discarding = false;
+                        } else {
+                            respond(line, responses);
+                        }
+                    } else if (!discarding) {
+                        if (line.size() == MAX_LINE_BYTES) {
+                            line.reset();
+                            responses.append(LINE_TOO_LONG).append('\n');
+                            discarding = true;
+                        } else {
+                            line.write(b);
+                        }
+                    }
+                }
+                input.clear();
+                // Una sola escritura con las respuestas de todo lo recibido en esta lectura
+                writeFully(c, responses);
+            }
+            if (line.size() > 0) {
+                respond(line, responses);
+                writeFully(c, responses);
+            }
+        } catch (IOException ex) {
+            // Conexión cortada por el cliente o por close(): no afecta a las demás
+        } finally {
+            open.remove(client);
+        }
+    }
+
+    // Se decodifica la línea completa (no cada lectura), así un carácter UTF-8 partido entre lecturas no se corrompe
+    private void respond(ByteArrayOutputStream line, StringBuilder responses) {
+        String response = handle(new String(line.toByteArray(), StandardCharsets.UTF_8).trim());
+        line.reset();
+        if (response != null) {
+            responses.append(response).append('\n');
+        }
+    }
+
+    private static void writeFully(SocketChannel channel, StringBuilder responses) throws IOException {
+        if (responses.length() == 0) {
+            return;
+        }
+        ByteBuffer output = ByteBuffer.wrap(responses.toString().getBytes(StandardCharsets.UTF_8));
+        responses.setLength(0);
+        while (output.hasRemaining()) {
+            channel.write(output);
+        }
+    }
+
+    /**
+     * Respuesta para una línea de solicitud, o null si la línea no requiere respuesta.
+     */
+    String handle(String line) {
+        if (line.isEmpty() || line.startsWith("#")) {
+            return null;
+        }
+        try {
+            GradeRecord record = GradeRecord.parse(line, DELIMITER);
+            GradeResult result = calculator.calculateFinalGrade(record.getStudent(), plan, record.isAllYearsTeachers());
+            return GradeRecord.format(record.getStudent().getId(), result, DELIMITER);
+        } catch (RuntimeException ex) {
+            // Cualquier fallo de una solicitud (también de una política) se responde sin cortar la conexión
+            return "ERR " + (ex.getMessage() != null ? ex.getMessage() : ex.getClass().getName());
+        }
+    }
+
+    /**
+     * Deja de aceptar conexiones y cierra las abiertas. Idempotente.
+     */
+    @Override
+    public void close() {
+        if (!closing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            serverChannel.close();
+        } catch (IOException ex) {
+            // nada más que hacer: se continúa cerrando el resto
+        }
+        for (SocketChannel c : open) {
+            try {
+                c.close();
+            } catch (IOException ex) {
+                // idem
+            }
+        }
+        connections.shutdownNow();
+        if (localAddress instanceof UnixDomainSocketAddress) {
+            try {
+                Files.deleteIfExists(((UnixDomainSocketAddress) localAddress).getPath());
+            } catch (IOException ex) {
+                // el archivo del socket puede quedar; un nuevo bind fallará hasta borrarlo
+            }
+        }
+        closed.countDown();
+    }
+}
@@ -0,0 +1,43 @@
+package com.utec.gradecalculator.domain;
+
+/**
+ * Vista columnar de solo lectura de una cohorte: filas de estudiantes y columnas planas
+ * de notas y pesos.
+ *
+ * Las evaluaciones del estudiante {@code i} ocupan las posiciones
+ * {@code [evaluationStart(i), evaluationEnd(i))} de las columnas de notas y pesos. Las filas no
+ * tienen por qué ser contiguas: un almacenamiento con registros de tamaño fijo puede dejar
+ * posiciones sin usar entre ellas, por lo que las columnas se recorren siempre fila por fila.
+ * Permite calificar sin materializar objetos Student/Evaluation, sea cual sea el
+ * almacenamiento (arreglos en heap, archivo mapeado, memoria off-heap).
+ */
+public interface CohortColumns {
+
+    /**
+     * Número de estudiantes (filas).
+     */
+    int size();
+
+    /**
+     * Número total de evaluaciones de la cohorte (sin contar posiciones sin usar).
+     */
+    int evaluationCount();
+
+    String getId(int index);
+
+    boolean hasReachedMinClasses(int index);
+
+    /**
+     * Primera posición (inclusiva) de las evaluaciones del estudiante en las columnas.
+     */
+    int evaluationStart(int index);
+
+    /**
+     * Última posición (exclusiva) de las evaluaciones del estudiante en las columnas.
+     */
+    int evaluationEnd(int index);
+
+    double getScore(int evaluationIndex);
+
+    double getWeight(int evaluationIndex);
+}
@@ -0,0 +1,232 @@
+package com.utec.gradecalculator.domain;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Representación columnar e inmutable de una cohorte de estudiantes.
+ *
+ * En lugar de un objeto Evaluation por nota, las notas y pesos de todos los estudiantes
+ * se guardan en dos arreglos planos {@code double[]}. Las evaluaciones del estudiante {@code i}
+ * ocupan las posiciones {@code [evaluationStart(i), evaluationEnd(i))} de esas columnas.
+ *
+ * Pensada para procesos masivos (cierre de ciclo): evita millones de objetos pequeños
+ * y permite recorrer las notas sin asignar memoria por evaluación.
+ */
+public final class CohortTable implements CohortColumns {
+
+    private final String[] ids;
+    private final boolean[] reachedMinClasses;
+    private final int[] offsets;
+    private final double[] scores;
+    private final double[] weights;
+
+    private CohortTable(String[] ids, boolean[] reachedMinClasses, int[] offsets,
+                        double[] scores, double[] weights) {
+        this.ids = ids;
+        this.reachedMinClasses = reachedMinClasses;
+        this.offsets = offsets;
+        this.scores = scores;
+        this.weights = weights;
+    }
+
+    /**
+     * Construye la tabla copiando el estado actual de los estudiantes (en orden de iteración).
+     *
+     * @param students estudiantes (no null, sin elementos null)
+     * @return tabla columnar equivalente
+     */
+    public static CohortTable fromStudents(Collection<Student> students) {
+        Objects.requireNonNull(students, "students must not be null");
+
+        Student[] input = students.toArray(new Student[0]);
+        int n = input.length;
+        String[] ids = new String[n];
+        boolean[] reached = new boolean[n];
+        int[] offsets = new int[n + 1];
+
+        int total = 0;
+        for (int i = 0; i < n; i++) {
+            Objects.requireNonNull(input[i], "students must not contain null elements");
+            offsets[i] = total;
+            total += input[i].getEvaluations().size();
+        }
+        offsets[n] = total;
+
+        double[] scores = new double[total];
+        double[] weights = new double[total];
+        for (int i = 0; i < n; i++) {
+            Student s = input[i];
+            ids[i] = s.getId();
+            reached[i] = s.hasReachedMinClasses();
+            int j = offsets[i];
+            for (Evaluation e : s.getEvaluations()) {
+                scores[j] = e.getScore();
+                weights[j] = e.getWeight();
+                j++;
+            }
+        }
+        return new CohortTable(ids, reached, offsets, scores, weights);
+    }
+
+    /**
+     * Construye la tabla a partir de columnas primitivas ya cargadas (p. ej. de un archivo masivo),
+     * copiándolas. Notas y pesos se validan en una sola pasada con {@link Evaluation#validateAll}:
+     * si hay valores inválidos se lanza una única excepción con la cantidad y el primer índice.
+     *
+     * @param ids               id de cada estudiante ({@code n} elementos)
+     * @param reachedMinClasses asistencia de cada estudiante ({@code n} elementos)
+     * @param offsets           {@code n + 1} posiciones no decrecientes, de 0 a {@code scores.length}
+     * @param scores            notas de todas las evaluaciones
+     * @param weights           pesos de todas las evaluaciones (mismo largo que {@code scores})
+     * @throws IllegalArgumentException si las columnas no son coherentes o algún valor es inválido
+     */
+    public static CohortTable fromColumns(String[] ids, boolean[] reachedMinClasses, int[] offsets,
+                                          double[] scores, double[] weights) {
+        Objects.requireNonNull(ids, "ids must not be null");
+        Objects.requireNonNull(reachedMinClasses, "reachedMinClasses must not be null");
+        Objects.requireNonNull(offsets, "offsets must not be null");
+        int n = ids.length;
+        if (reachedMinClasses.length != n || offsets.length != n + 1) {
+            throw new IllegalArgumentException("expected " + n + " attendance flags and " + (n + 1) + " offsets");
+        }
+
+        BitSet invalid = Evaluation.validateAll(scores, weights);
+        if (!invalid.isEmpty()) {
+            throw new IllegalArgumentException(invalid.cardinality() + " invalid evaluations (first at index "
+                    + invalid.nextSetBit(0) + ")");
+        }
+
+        String[] idsCopy = new String[n];
+        int[] offsetsCopy = offsets.clone();
+        if (offsetsCopy[0] != 0 || offsetsCopy[n] != scores.length) {
+            throw new IllegalArgumentException("offsets must start at 0 and end at " + scores.length);
+        }
+        for (int i = 0; i < n; i++) {
+            int count = offsetsCopy[i + 1] - offsetsCopy[i];
+            if (count < 0 || count > Student.MAX_EVALUATIONS) {
+                throw new IllegalArgumentException("row " + i + " has an invalid number of evaluations: " + count);
+            }
+            idsCopy[i] = Student.normalizeId(ids[i]);
+        }
+        return new CohortTable(idsCopy, reachedMinClasses.clone(), offsetsCopy, scores.clone(), weights.clone());
+    }
+
+    /**
+     * Reconstruye el Student de la fila indicada (nuevo objeto mutable, independiente de la tabla).
+     */
+    public Student toStudent(int index) {
+        checkIndex(index);
+        Student s = new Student(ids[index]);
+        s.setHasReachedMinClasses(reachedMinClasses[index]);
+        for (int j = offsets[index]; j < offsets[index + 1]; j++) {
+            s.addEvaluation(new Evaluation(scores[j], weights[j]));
+        }
+        return s;
+    }
+
+    /**
+     * Reconstruye todos los estudiantes en el orden de la tabla.
+     */
+    public List<Student> toStudents() {
+        List<Student> result = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            result.add(toStudent(i));
+        }
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    @Override
+    public int evaluationCount() {
+        return scores.length;
+    }
+
+    @Override
+    public String getId(int index) {
+        checkIndex(index);
+        return ids[index];
+    }
+
+    @Override
+    public boolean hasReachedMinClasses(int index) {
+        checkIndex(index);
+        return reachedMinClasses[index];
+    }
+
+    @Override
+    public int evaluationStart(int index) {
+        checkIndex(index);
+        return offsets[index];
+    }
+
+    @Override
+    public int evaluationEnd(int index) {
+        checkIndex(index);
+        return offsets[index + 1];
+    }
+
+    @Override
+    public double getScore(int evaluationIndex) {
+        return scores[evaluationIndex];
+    }
+
+    @Override
+    public double getWeight(int evaluationIndex) {
+        return weights[evaluationIndex];
+    }
+
+    /**
+     * Kernel numérico que recibe las columnas internas de la tabla sin copiarlas: no debe modificarlas
+     * ni conservarlas después de {@link #apply}.
+     */
+    @FunctionalInterface
+    public interface ColumnKernel {
+        void apply(double[] scores, double[] weights, int[] offsets, int rows, double[] out);
+    }
+
+    /**
+     * Aplica el kernel a todas las filas leyendo directamente las columnas (sin las copias de
+     * {@link #scoreColumn()} y compañía).
+     *
+     * @return arreglo nuevo con un resultado por fila
+     */
+    public double[] applyKernel(ColumnKernel kernel) {
+        Objects.requireNonNull(kernel, "kernel must not be null");
+        double[] out = new double[ids.length];
+        kernel.apply(scores, weights, offsets, ids.length, out);
+        return out;
+    }
+
+    /**
+     * Copia de la columna de notas (para kernels numéricos).
+     */
+    public double[] scoreColumn() {
+        return scores.clone();
+    }
+
+    /**
+     * Copia de la columna de pesos (para kernels numéricos).
+     */
+    public double[] weightColumn() {
+        return weights.clone();
+    }
+
+    /**
+     * Copia de los offsets ({@code size() + 1} posiciones).
+     */
+    public int[] offsetColumn() {
+        return offsets.clone();
+    }
+
+    private void checkIndex(int index) {
+        Objects.checkIndex(index, ids.length);
+    }
+}
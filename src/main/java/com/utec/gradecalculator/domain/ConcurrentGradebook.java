@@ -0,0 +1,167 @@
+package com.utec.gradecalculator.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Libro de notas thread-safe para cargar evaluaciones de forma concurrente (varios asistentes a la
+ * vez) mientras otros hilos calculan notas.
+ *
+ * Cada estudiante se guarda como un registro inmutable (evaluaciones + asistencia) dentro de un
+ * {@link AtomicReference}. Las escrituras crean un registro nuevo y lo publican con CAS
+ * (copy-on-write, sin locks); si otro hilo escribió antes se reintenta sobre el registro vigente.
+ * Así el límite {@link Student#MAX_EVALUATIONS} se valida de forma atómica y los lectores nunca
+ * se bloquean ni ven un conjunto de evaluaciones a medio actualizar.
+ *
+ * Para calcular notas se usa {@link #snapshot(String)}, que materializa un {@link Student}
+ * independiente con el estado de un único instante.
+ */
+public final class ConcurrentGradebook {
+
+    private final ConcurrentHashMap<String, AtomicReference<Record>> records = new ConcurrentHashMap<>();
+
+    /**
+     * Registra un estudiante sin evaluaciones (el id se normaliza igual que en {@link Student}).
+     *
+     * @return true si no existía
+     */
+    public boolean register(String studentId) {
+        return records.putIfAbsent(Student.normalizeId(studentId), new AtomicReference<>(Record.EMPTY)) == null;
+    }
+
+    public boolean contains(String studentId) {
+        return records.containsKey(Student.normalizeId(studentId));
+    }
+
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * Agrega una evaluación validando RNF01 (máx 10) de forma atómica.
+     *
+     * @throws IllegalArgumentException si el estudiante no está registrado
+     * @throws IllegalStateException    si ya tiene {@link Student#MAX_EVALUATIONS} evaluaciones
+     */
+    public void addEvaluation(String studentId, Evaluation evaluation) {
+        Objects.requireNonNull(evaluation, "evaluation must not be null");
+        AtomicReference<Record> ref = recordOf(studentId);
+        Record current;
+        Record updated;
+        do {
+            current = ref.get();
+            updated = current.withAdded(evaluation);
+        } while (!ref.compareAndSet(current, updated));
+    }
+
+    /**
+     * Remueve la evaluación en la posición indicada.
+     *
+     * @return la evaluación removida
+     * @throws IndexOutOfBoundsException si el índice no existe en el estado vigente
+     */
+    public Evaluation removeEvaluation(String studentId, int index) {
+        AtomicReference<Record> ref = recordOf(studentId);
+        Record current;
+        Record updated;
+        do {
+            current = ref.get();
+            updated = current.withRemoved(index);
+        } while (!ref.compareAndSet(current, updated));
+        return current.evaluations[index];
+    }
+
+    public void setHasReachedMinClasses(String studentId, boolean hasReachedMinClasses) {
+        AtomicReference<Record> ref = recordOf(studentId);
+        Record current;
+        do {
+            current = ref.get();
+            if (current.hasReachedMinClasses == hasReachedMinClasses) {
+                return;
+            }
+        } while (!ref.compareAndSet(current, new Record(current.evaluations, hasReachedMinClasses)));
+    }
+
+    /**
+     * Evaluaciones vigentes del estudiante (lista inmutable).
+     */
+    public List<Evaluation> getEvaluations(String studentId) {
+        return List.of(recordOf(studentId).get().evaluations);
+    }
+
+    /**
+     * Materializa el estado vigente del estudiante como un Student nuevo (mutable e independiente).
+     *
+     * @throws IllegalArgumentException si el estudiante no está registrado
+     */
+    public Student snapshot(String studentId) {
+        String id = Student.normalizeId(studentId);
+        return toStudent(id, recordOf(id).get());
+    }
+
+    /**
+     * Materializa todos los estudiantes. Cada uno es consistente consigo mismo; escrituras
+     * concurrentes sobre estudiantes distintos pueden o no verse reflejadas.
+     */
+    public List<Student> snapshotAll() {
+        List<Student> result = new ArrayList<>(records.size());
+        for (Map.Entry<String, AtomicReference<Record>> e : records.entrySet()) {
+            result.add(toStudent(e.getKey(), e.getValue().get()));
+        }
+        return result;
+    }
+
+    private AtomicReference<Record> recordOf(String studentId) {
+        AtomicReference<Record> ref = records.get(Student.normalizeId(studentId));
+        if (ref == null) {
+            throw new IllegalArgumentException("Unknown student: " + studentId);
+        }
+        return ref;
+    }
+
+    private static Student toStudent(String id, Record record) {
+        Student student = new Student(id);
+        student.setHasReachedMinClasses(record.hasReachedMinClasses);
+        for (Evaluation e : record.evaluations) {
+            student.addEvaluation(e);
+        }
+        return student;
+    }
+
+    /**
+     * Estado inmutable de un estudiante; el arreglo nunca se modifica después de publicarse.
+     */
+    private static final class Record {
+        private static final Record EMPTY = new Record(new Evaluation[0], false);
+
+        private final Evaluation[] evaluations;
+        private final boolean hasReachedMinClasses;
+
+        private Record(Evaluation[] evaluations, boolean hasReachedMinClasses) {
+            this.evaluations = evaluations;
+            this.hasReachedMinClasses = hasReachedMinClasses;
+        }
+
+        private Record withAdded(Evaluation evaluation) {
+            if (evaluations.length >= Student.MAX_EVALUATIONS) {
+                throw new IllegalStateException("Maximum number of evaluations (" + Student.MAX_EVALUATIONS + ") exceeded");
+            }
+            Evaluation[] copy = Arrays.copyOf(evaluations, evaluations.length + 1);
+            copy[evaluations.length] = evaluation;
+            return new Record(copy, hasReachedMinClasses);
+        }
+
+        private Record withRemoved(int index) {
+            Objects.checkIndex(index, evaluations.length);
+            Evaluation[] copy = new Evaluation[evaluations.length - 1];
+            System.arraycopy(evaluations, 0, copy, 0, index);
+            System.arraycopy(evaluations, index + 1, copy, index, copy.length - index);
+            return new Record(copy, hasReachedMinClasses);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.utec.gradecalculator.domain;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Esquema de evaluaciones de un curso: el vector de pesos que comparten todos sus estudiantes.
+ *
+ * Se declara una sola vez y precalcula la suma de pesos, de modo que cada estudiante solo necesita
+ * su arreglo de notas (en el mismo orden) y acumula únicamente {@code score * weight}.
+ *
+ * {@link #weightedAverage(double[])} compensa la suma igual que {@link WeightedSum} en Student: da
+ * exactamente el mismo promedio que {@link #toStudent} con las mismas notas. {@link #weightedAverageFixedPoint(double[])}
+ * da el valor exacto en centésimas (igual que GradingMode.FIXED_POINT con evaluaciones equivalentes).
+ * Inmutable y thread-safe.
+ */
+public final class CourseSchema {
+
+    private final double[] weights;
+    private final double totalWeight;
+    private final long[] weightsHundredths;
+    private final long totalWeightHundredths;
+
+    private CourseSchema(double[] weights) {
+        this.weights = weights;
+        // Misma suma compensada de pesos que acumula Student
+        WeightedSum sum = new WeightedSum();
+        for (double w : weights) {
+            sum.add(0.0, w);
+        }
+        this.totalWeight = sum.getSumWeights();
+        this.weightsHundredths = new long[weights.length];
+        long totalHundredths = 0L;
+        for (int i = 0; i < weights.length; i++) {
+            weightsHundredths[i] = Evaluation.toHundredths(weights[i]);
+            totalHundredths += weightsHundredths[i];
+        }
+        this.totalWeightHundredths = totalHundredths;
+    }
+
+    /**
+     * Declara el esquema con un peso por evaluación.
+     *
+     * @param weights pesos (entre 1 y {@link Student#MAX_EVALUATIONS}, cada uno en [MIN_WEIGHT, MAX_WEIGHT])
+     * @throws IllegalArgumentException si la cantidad o algún peso no es válido
+     */
+    public static CourseSchema of(double... weights) {
+        Objects.requireNonNull(weights, "weights must not be null");
+        if (weights.length == 0 || weights.length > Student.MAX_EVALUATIONS) {
+            throw new IllegalArgumentException("A course must declare between 1 and " + Student.MAX_EVALUATIONS
+                    + " weights (was: " + weights.length + ")");
+        }
+        for (int i = 0; i < weights.length; i++) {
+            if (!Evaluation.isValidWeight(weights[i])) {
+                throw new IllegalArgumentException("Invalid weight at index " + i + ": " + weights[i]);
+            }
+        }
+        return new CourseSchema(weights.clone());
+    }
+
+    public int size() {
+        return weights.length;
+    }
+
+    public double getWeight(int index) {
+        return weights[index];
+    }
+
+    public double getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * Suma exacta de los pesos en centésimas (la de GradingMode.FIXED_POINT).
+     */
+    public long getTotalWeightHundredths() {
+        return totalWeightHundredths;
+    }
+
+    /**
+     * Promedio ponderado de un estudiante: {@code sum(score*weight)} compensada (la misma secuencia
+     * que {@link WeightedSum#add}) dividida por el total de pesos precalculado, idéntico bit a bit al
+     * de Student con las mismas evaluaciones.
+     *
+     * @param scores una nota por evaluación del esquema, en el mismo orden
+     * @throws IllegalArgumentException si la cantidad de notas no coincide o alguna no es válida
+     */
+    public double weightedAverage(double[] scores) {
+        checkScores(scores);
+        // Sin peso total el promedio es 0.0, como en WeightedSum#getWeightedAverage
+        if (!(totalWeight > 0.0)) {
+            return 0.0;
+        }
+        double sum = 0.0;
+        double compensation = 0.0;
+        for (int i = 0; i < scores.length; i++) {
+            double y = scores[i] * weights[i] - compensation;
+            double t = sum + y;
+            compensation = (t - sum) - y;
+            sum = t;
+        }
+        return sum / totalWeight;
+    }
+
+    /**
+     * Promedio ponderado exacto en punto fijo: notas y pesos redondeados a centésimas y sumados en long.
+     *
+     * @throws IllegalArgumentException si la cantidad de notas no coincide o alguna no es válida
+     */
+    public double weightedAverageFixedPoint(double[] scores) {
+        checkScores(scores);
+        if (totalWeightHundredths == 0L) {
+            return 0.0;
+        }
+        long sum = 0L;
+        for (int i = 0; i < scores.length; i++) {
+            sum += Evaluation.toHundredths(scores[i]) * weightsHundredths[i];
+        }
+        return (double) sum / (double) (totalWeightHundredths * 100L);
+    }
+
+    /**
+     * Materializa un Student con las evaluaciones equivalentes (para las APIs basadas en Student).
+     */
+    public Student toStudent(String id, double[] scores, boolean hasReachedMinClasses) {
+        checkScores(scores);
+        Student student = new Student(id);
+        student.setHasReachedMinClasses(hasReachedMinClasses);
+        for (int i = 0; i < scores.length; i++) {
+            student.addEvaluation(new Evaluation(scores[i], weights[i]));
+        }
+        return student;
+    }
+
+    private void checkScores(double[] scores) {
+        Objects.requireNonNull(scores, "scores must not be null");
+        if (scores.length != weights.length) {
+            throw new IllegalArgumentException("Expected " + weights.length + " scores (was: " + scores.length + ")");
+        }
+        for (int i = 0; i < scores.length; i++) {
+            if (!Evaluation.isValidScore(scores[i])) {
+                throw new IllegalArgumentException("Invalid score at index " + i + ": " + scores[i]);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CourseSchema)) return false;
+        return Arrays.equals(weights, ((CourseSchema) o).weights);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(weights);
+    }
+
+    @Override
+    public String toString() {
+        return "CourseSchema{weights=" + Arrays.toString(weights) + '}';
+    }
+}
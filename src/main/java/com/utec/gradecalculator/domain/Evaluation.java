@@ -1,5 +1,6 @@
 package com.utec.gradecalculator.domain;
 
+import java.util.BitSet;
 import java.util.Objects;
 
 /**
@@ -10,6 +11,8 @@ import java.util.Objects;
  *  - weight (peso) debe estar en [MIN_WEIGHT, MAX_WEIGHT]
  *
  * Esta clase evita "valores mágicos" exponiendo constantes públicas.
+ * Para validar sin crear objetos ni excepciones: {@link #isValidScore}, {@link #isValidWeight}
+ * y {@link #validateAll} (arreglos completos).
  */
 public final class Evaluation {
 
@@ -20,6 +23,8 @@ public final class Evaluation {
     public static final double MIN_WEIGHT = 0.0;
     public static final double MAX_WEIGHT = 100.0;
 
+    private static final double HUNDREDTHS = 100.0;
+
     private final double score;
     private final double weight;
 
@@ -37,26 +42,67 @@ public final class Evaluation {
         this.weight = weight;
     }
 
+    /**
+     * true si {@code score} es finito y está en [MIN_SCORE, MAX_SCORE]. No lanza excepciones.
+     */
+    public static boolean isValidScore(double score) {
+        // Las comparaciones con NaN son falsas; ±Infinity queda fuera del rango
+        return score >= MIN_SCORE && score <= MAX_SCORE;
+    }
+
+    /**
+     * true si {@code weight} es finito y está en [MIN_WEIGHT, MAX_WEIGHT]. No lanza excepciones.
+     */
+    public static boolean isValidWeight(double weight) {
+        return weight >= MIN_WEIGHT && weight <= MAX_WEIGHT;
+    }
+
+    /**
+     * Validación masiva sin excepciones: revisa en una pasada pares (nota, peso) almacenados en
+     * arreglos primitivos, p. ej. al ingerir millones de registros.
+     *
+     * @param scores  notas (no null)
+     * @param weights pesos (no null, mismo largo que {@code scores})
+     * @return índices cuya nota o peso no es válido (vacío si todo es válido)
+     * @throws IllegalArgumentException si los arreglos tienen distinto largo
+     */
+    public static BitSet validateAll(double[] scores, double[] weights) {
+        Objects.requireNonNull(scores, "scores must not be null");
+        Objects.requireNonNull(weights, "weights must not be null");
+        if (scores.length != weights.length) {
+            throw new IllegalArgumentException("scores and weights must have the same length");
+        }
+        BitSet invalid = new BitSet();
+        for (int i = 0; i < scores.length; i++) {
+            if (!isValidScore(scores[i]) || !isValidWeight(weights[i])) {
+                invalid.set(i);
+            }
+        }
+        return invalid;
+    }
+
     private static void validateScore(double score) {
+        if (isValidScore(score)) {
+            return;
+        }
         if (Double.isNaN(score) || Double.isInfinite(score)) {
             throw new IllegalArgumentException("Score must be a finite number");
         }
-        if (score < MIN_SCORE || score > MAX_SCORE) {
-            throw new IllegalArgumentException(
-                    String.format("Score must be between %.1f and %.1f (was: %s)", MIN_SCORE, MAX_SCORE, score)
-            );
-        }
+        throw new IllegalArgumentException(
+                String.format("Score must be between %.1f and %.1f (was: %s)", MIN_SCORE, MAX_SCORE, score)
+        );
     }
 
     private static void validateWeight(double weight) {
+        if (isValidWeight(weight)) {
+            return;
+        }
         if (Double.isNaN(weight) || Double.isInfinite(weight)) {
             throw new IllegalArgumentException("Weight must be a finite number");
         }
-        if (weight < MIN_WEIGHT || weight > MAX_WEIGHT) {
-            throw new IllegalArgumentException(
-                    String.format("Weight must be between %.1f and %.1f (was: %s)", MIN_WEIGHT, MAX_WEIGHT, weight)
-            );
-        }
+        throw new IllegalArgumentException(
+                String.format("Weight must be between %.1f and %.1f (was: %s)", MIN_WEIGHT, MAX_WEIGHT, weight)
+        );
     }
 
     public double getScore() {
@@ -67,6 +113,27 @@ public final class Evaluation {
         return weight;
     }
 
+    /**
+     * Nota en centésimas, redondeada (para cálculos en punto fijo).
+     */
+    public long getScoreHundredths() {
+        return toHundredths(score);
+    }
+
+    /**
+     * Peso en centésimas, redondeado (para cálculos en punto fijo).
+     */
+    public long getWeightHundredths() {
+        return toHundredths(weight);
+    }
+
+    /**
+     * Redondea un valor de nota o peso a centésimas: {@code Math.round(v * 100)}.
+     */
+    public static long toHundredths(double v) {
+        return Math.round(v * HUNDREDTHS);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
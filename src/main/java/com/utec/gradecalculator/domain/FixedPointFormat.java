@@ -0,0 +1,74 @@
+package com.utec.gradecalculator.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Locale;
+
+/**
+ * Formateador de números con exactamente {@value #DECIMALS} decimales y punto como separador.
+ *
+ * Produce el mismo texto que {@code String.format(Locale.ROOT, "%.4f", v)} pero sin pasar por
+ * {@link java.util.Formatter}: para los valores habituales (notas, pesos, puntos) el redondeo
+ * se hace con aritmética entera. Solo los casos límite (empates en el quinto decimal, valores
+ * negativos o muy grandes, NaN/Infinity) recurren a la ruta lenta y exacta.
+ */
+public final class FixedPointFormat {
+
+    public static final int DECIMALS = 4;
+
+    private static final double SCALE = 10_000.0;
+    private static final long SCALE_LONG = 10_000L;
+    // Por encima de este valor el error de v * SCALE deja de ser despreciable frente a la tolerancia.
+    private static final double FAST_PATH_LIMIT = 100_000.0;
+    // Distancia mínima a un empate (x.5) para confiar en el redondeo rápido.
+    private static final double TIE_TOLERANCE = 1e-6;
+
+    private FixedPointFormat() {
+    }
+
+    /**
+     * Devuelve {@code v} con {@value #DECIMALS} decimales.
+     */
+    public static String format(double v) {
+        StringBuilder sb = new StringBuilder(12);
+        append(sb, v);
+        return sb.toString();
+    }
+
+    /**
+     * Agrega {@code v} con {@value #DECIMALS} decimales al final de {@code sb}.
+     *
+     * @return el mismo {@code sb}, para encadenar llamadas
+     */
+    public static StringBuilder append(StringBuilder sb, double v) {
+        // v >= 0.0 es falso para NaN; el bit de signo descarta -0.0 (que se imprime "-0.0000")
+        if (!(v >= 0.0) || v >= FAST_PATH_LIMIT || Double.doubleToRawLongBits(v) < 0) {
+            return appendSlow(sb, v);
+        }
+
+        double scaled = v * SCALE;
+        long floor = (long) scaled;
+        double fraction = scaled - floor;
+        if (Math.abs(fraction - 0.5) < TIE_TOLERANCE) {
+            // Cerca de un empate: decide el redondeo HALF_UP sobre la representación decimal más corta
+            return appendSlow(sb, v);
+        }
+        long rounded = (fraction > 0.5) ? floor + 1 : floor;
+
+        long integerPart = rounded / SCALE_LONG;
+        long decimals = rounded % SCALE_LONG;
+        sb.append(integerPart).append('.');
+        if (decimals < 1000) sb.append('0');
+        if (decimals < 100) sb.append('0');
+        if (decimals < 10) sb.append('0');
+        return sb.append(decimals);
+    }
+
+    private static StringBuilder appendSlow(StringBuilder sb, double v) {
+        if (Double.isNaN(v) || Double.isInfinite(v) || Double.doubleToRawLongBits(v) < 0) {
+            return sb.append(String.format(Locale.ROOT, "%.4f", v));
+        }
+        // BigDecimal.valueOf usa Double.toString, igual que Formatter antes de redondear
+        return sb.append(BigDecimal.valueOf(v).setScale(DECIMALS, RoundingMode.HALF_UP).toPlainString());
+    }
+}
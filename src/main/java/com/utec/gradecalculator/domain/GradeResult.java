@@ -1,8 +1,5 @@
 package com.utec.gradecalculator.domain;
 
-
-import java.util.Objects;
-
 /**
  * Resultado inmutable del cálculo de la nota final.
  *
@@ -13,6 +10,15 @@ import java.util.Objects;
  *  - finalGrade: nota final resultante (0..100)
  *  - detail: texto explicativo (puede ser vacío)
  *
+ * El detalle puede recibirse ya construido o generarse bajo demanda a partir de los
+ * componentes numéricos (ver {@link #withLazyDetail}); en ese caso solo se paga su costo
+ * si alguien llama a {@link #getDetail()}. El detalle generado usa siempre punto decimal,
+ * sin depender del Locale por defecto.
+ *
+ * Igualdad: la misma regla para todo par de resultados: los cuatro componentes numéricos y sumWeights
+ * (que el constructor público no recibe: esos resultados solo son iguales entre sí). El detalle no
+ * participa, así que comparar o usar un GradeResult como clave nunca genera el texto.
+ *
  * Validaciones:
  *  - weightedAverage y finalGrade deben estar en [MIN_GRADE, MAX_GRADE]
  *  - penalty y extraPoints deben ser >= 0
@@ -29,14 +35,64 @@ public final class GradeResult {
     private final double penalty;
     private final double extraPoints;
     private final double finalGrade;
-    private final String detail;
+    private final double sumWeights;
+    // Se genera una sola vez si llega null desde withLazyDetail (String es inmutable: la carrera es benigna)
+    private String detail;
 
     public GradeResult(double weightedAverage,
                        double penalty,
                        double extraPoints,
                        double finalGrade,
                        String detail) {
+        this(weightedAverage, penalty, extraPoints, finalGrade, Double.NaN, (detail == null) ? "" : detail);
+    }
+
+    private GradeResult(double weightedAverage,
+                        double penalty,
+                        double extraPoints,
+                        double finalGrade,
+                        double sumWeights,
+                        String detail) {
+
+        validateComponents(weightedAverage, penalty, extraPoints, finalGrade);
+
+        this.weightedAverage = weightedAverage;
+        this.penalty = penalty;
+        this.extraPoints = extraPoints;
+        this.finalGrade = finalGrade;
+        this.sumWeights = sumWeights;
+        this.detail = detail;
+    }
 
+    /**
+     * Crea un resultado cuyo detalle se genera bajo demanda con el formato estándar del cálculo:
+     * {@code weightedAverage=…, sumWeights=…, penalty=…, extraPoints=…, finalGrade=…} (4 decimales).
+     *
+     * @param sumWeights suma de pesos usada para el promedio (>= 0)
+     * @throws IllegalArgumentException con las mismas reglas que el constructor, o si sumWeights es inválido
+     */
+    public static GradeResult withLazyDetail(double weightedAverage,
+                                             double sumWeights,
+                                             double penalty,
+                                             double extraPoints,
+                                             double finalGrade) {
+        validateFinite(sumWeights, "sumWeights");
+        if (sumWeights < MIN_NON_NEGATIVE) {
+            throw new IllegalArgumentException("sumWeights must be >= 0");
+        }
+        return new GradeResult(weightedAverage, penalty, extraPoints, finalGrade, sumWeights, null);
+    }
+
+    /**
+     * Aplica las mismas reglas que el constructor a componentes sueltos, para los caminos que no crean
+     * un GradeResult (p. ej. {@code GradeCalculator.writeResult}).
+     *
+     * @throws IllegalArgumentException si algún componente no es finito o está fuera de rango
+     */
+    public static void validateComponents(double weightedAverage,
+                                          double penalty,
+                                          double extraPoints,
+                                          double finalGrade) {
         validateFinite(weightedAverage, "weightedAverage");
         validateFinite(penalty, "penalty");
         validateFinite(extraPoints, "extraPoints");
@@ -58,12 +114,6 @@ public final class GradeResult {
                     String.format("finalGrade must be between %.1f and %.1f (was: %s)",
                             MIN_GRADE, MAX_GRADE, finalGrade));
         }
-
-        this.weightedAverage = weightedAverage;
-        this.penalty = penalty;
-        this.extraPoints = extraPoints;
-        this.finalGrade = finalGrade;
-        this.detail = (detail == null) ? "" : detail;
     }
 
     private static void validateFinite(double v, String name) {
@@ -89,7 +139,22 @@ public final class GradeResult {
     }
 
     public String getDetail() {
-        return detail;
+        String d = detail;
+        if (d == null) {
+            d = renderDetail();
+            detail = d;
+        }
+        return d;
+    }
+
+    private String renderDetail() {
+        StringBuilder sb = new StringBuilder(112);
+        FixedPointFormat.append(sb.append("weightedAverage="), weightedAverage);
+        FixedPointFormat.append(sb.append(", sumWeights="), sumWeights);
+        FixedPointFormat.append(sb.append(", penalty="), penalty);
+        FixedPointFormat.append(sb.append(", extraPoints="), extraPoints);
+        FixedPointFormat.append(sb.append(", finalGrade="), finalGrade);
+        return sb.toString();
     }
 
     @Override
@@ -97,16 +162,26 @@ public final class GradeResult {
         if (this == o) return true;
         if (!(o instanceof GradeResult)) return false;
         GradeResult that = (GradeResult) o;
+        // Double.compare: el sumWeights NaN de los resultados del constructor público es igual a sí mismo
         return Double.compare(that.weightedAverage, weightedAverage) == 0 &&
                 Double.compare(that.penalty, penalty) == 0 &&
                 Double.compare(that.extraPoints, extraPoints) == 0 &&
                 Double.compare(that.finalGrade, finalGrade) == 0 &&
-                Objects.equals(detail, that.detail);
+                Double.compare(that.sumWeights, sumWeights) == 0;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(weightedAverage, penalty, extraPoints, finalGrade, detail);
+        int h = Double.hashCode(weightedAverage);
+        h = 31 * h + Double.hashCode(penalty);
+        h = 31 * h + Double.hashCode(extraPoints);
+        h = 31 * h + Double.hashCode(finalGrade);
+        return 31 * h + Double.hashCode(sumWeights);
+    }
+
+    // Para pruebas: indica si el detalle ya se generó (o se recibió construido)
+    boolean isDetailRendered() {
+        return detail != null;
     }
 
     @Override
@@ -116,7 +191,7 @@ public final class GradeResult {
                 ", penalty=" + penalty +
                 ", extraPoints=" + extraPoints +
                 ", finalGrade=" + finalGrade +
-                ", detail='" + detail + '\'' +
+                ", detail='" + getDetail() + '\'' +
                 '}';
     }
 }
@@ -9,6 +9,12 @@ import java.util.Objects;
  * Entidad Student minimalista para el examen.
  * - Mantiene lista de evaluations (máx. MAX_EVALUATIONS)
  * - Estado de asistencia: hasReachedMinClasses
+ * - Acumula sum(score*weight) y sum(weight) al agregar evaluaciones, de modo que el promedio
+ *   ponderado se obtiene en O(1). Se usa la suma compensada de {@link WeightedSum}; al remover o
+ *   limpiar se recalcula desde cero, así el valor es el mismo que al recorrer la lista actual.
+ *   También mantiene las sumas en punto fijo (centésimas, en long) para GradingMode.FIXED_POINT:
+ *   todas las sumas se actualizan solo al modificar las evaluaciones, así que los getters son lecturas
+ *   puras y varios hilos pueden calificar el mismo Student mientras nadie lo modifique.
  */
 public class Student {
     public static final int MAX_EVALUATIONS = 10;
@@ -17,11 +23,28 @@ public class Student {
     private final List<Evaluation> evaluations = new ArrayList<>();
     private boolean hasReachedMinClasses;
 
+    // Suma compensada (Kahan) de score*weight y de weight
+    private final WeightedSum sums = new WeightedSum();
+
+    // Mismas sumas en punto fijo: notas y pesos en centésimas (exactas e independientes del orden)
+    private long sumWeightedScoresHundredths;
+    private long sumWeightsHundredths;
+
     public Student(String id) {
-        if (id == null || id.trim().isEmpty()) {
+        this.id = normalizeId(id);
+    }
+
+    /**
+     * Id canónico (sin espacios al inicio ni al final), la misma regla en todo el dominio.
+     *
+     * @throws IllegalArgumentException si el id es null o queda vacío
+     */
+    static String normalizeId(String id) {
+        String trimmed = (id == null) ? "" : id.trim();
+        if (trimmed.isEmpty()) {
             throw new IllegalArgumentException("Student id must not be null or empty");
         }
-        this.id = id.trim();
+        return trimmed;
     }
 
     public String getId() {
@@ -49,17 +72,86 @@ public class Student {
             throw new IllegalStateException("Maximum number of evaluations (" + MAX_EVALUATIONS + ") exceeded");
         }
         evaluations.add(evaluation);
+        accumulate(evaluation);
     }
 
     /**
      * Remueve evaluación por índice.
      */
     public Evaluation removeEvaluation(int index) {
-        return evaluations.remove(index);
+        Evaluation removed = evaluations.remove(index);
+        recomputeSums();
+        return removed;
+    }
+
+    /**
+     * Reemplaza la evaluación en la posición indicada (p. ej. corrección de una nota).
+     *
+     * @return la evaluación reemplazada
+     */
+    public Evaluation setEvaluation(int index, Evaluation evaluation) {
+        Objects.requireNonNull(evaluation, "evaluation must not be null");
+        Evaluation previous = evaluations.set(index, evaluation);
+        recomputeSums();
+        return previous;
     }
 
     public void clearEvaluations() {
         evaluations.clear();
+        recomputeSums();
+    }
+
+    /**
+     * Suma compensada de score * weight de las evaluaciones actuales.
+     */
+    public double getSumWeightedScores() {
+        return sums.getSumWeightedScores();
+    }
+
+    /**
+     * Suma compensada de los pesos de las evaluaciones actuales.
+     */
+    public double getSumWeights() {
+        return sums.getSumWeights();
+    }
+
+    /**
+     * Suma exacta de scoreHundredths * weightHundredths de las evaluaciones actuales.
+     */
+    public long getSumWeightedScoresHundredths() {
+        return sumWeightedScoresHundredths;
+    }
+
+    /**
+     * Suma exacta de los pesos en centésimas de las evaluaciones actuales.
+     */
+    public long getSumWeightsHundredths() {
+        return sumWeightsHundredths;
+    }
+
+    /**
+     * Promedio ponderado actual en O(1); 0.0 si no hay peso (o no hay evaluaciones).
+     */
+    public double getWeightedAverage() {
+        return sums.getWeightedAverage();
+    }
+
+    private void accumulate(Evaluation evaluation) {
+        sums.add(evaluation.getScore(), evaluation.getWeight());
+
+        long weightHundredths = evaluation.getWeightHundredths();
+        sumWeightedScoresHundredths += evaluation.getScoreHundredths() * weightHundredths;
+        sumWeightsHundredths += weightHundredths;
+    }
+
+    // Restar no es exacto con Kahan: se vuelve a sumar desde cero (n <= MAX_EVALUATIONS)
+    private void recomputeSums() {
+        sums.reset();
+        sumWeightedScoresHundredths = 0L;
+        sumWeightsHundredths = 0L;
+        for (Evaluation e : evaluations) {
+            accumulate(e);
+        }
     }
 
     @Override
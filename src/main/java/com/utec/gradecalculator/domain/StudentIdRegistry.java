@@ -0,0 +1,155 @@
+package com.utec.gradecalculator.domain;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Diccionario que asigna a cada id de estudiante un handle entero denso (0, 1, 2, ...).
+ *
+ * - Los ids se normalizan igual que en {@link Student} (trim) y se guardan una sola vez:
+ *   {@link #idOf(int)} devuelve siempre la misma instancia, por lo que también sirve
+ *   para deduplicar Strings entre distintas fuentes (matrícula, asistencia, notas).
+ * - Al ser densos, los handles pueden indexar arreglos primitivos directamente en lugar
+ *   de usar {@code HashMap<String, ...>}.
+ * - Tabla hash de direccionamiento abierto sobre {@code int[]}: sin objetos por entrada.
+ *
+ * No es thread-safe.
+ */
+public final class StudentIdRegistry {
+
+    private static final int NO_HANDLE = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float MAX_LOAD = 0.5f;
+
+    // table[slot] = handle + 1 (0 = libre)
+    private int[] table;
+    // 32 - log2(table.length): el slot son los bits altos del hash
+    private int shift;
+    private String[] ids;
+    private int[] hashes;
+    private int size;
+
+    public StudentIdRegistry() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize número de ids esperado (evita redimensionar)
+     */
+    public StudentIdRegistry(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must be >= 0");
+        }
+        int capacity = Math.max(DEFAULT_CAPACITY, expectedSize);
+        this.ids = new String[capacity];
+        this.hashes = new int[capacity];
+        this.table = new int[tableSizeFor(capacity)];
+        this.shift = shiftFor(table.length);
+    }
+
+    /**
+     * Devuelve el handle del id, registrándolo si aún no existe.
+     *
+     * @throws IllegalArgumentException si el id es null o vacío
+     */
+    public int intern(String id) {
+        String key = Student.normalizeId(id);
+        int hash = spread(key.hashCode());
+        int mask = table.length - 1;
+        int slot = hash >>> shift;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            int handle = entry - 1;
+            if (hashes[handle] == hash && ids[handle].equals(key)) {
+                return handle;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        int handle = size;
+        if (handle == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+            hashes = Arrays.copyOf(hashes, hashes.length * 2);
+        }
+        ids[handle] = key;
+        hashes[handle] = hash;
+        table[slot] = handle + 1;
+        size++;
+        if (size > table.length * MAX_LOAD) {
+            rehash(table.length * 2);
+        }
+        return handle;
+    }
+
+    /**
+     * Handle del id, o -1 si no está registrado (no lo registra).
+     */
+    public int handleOf(String id) {
+        if (id == null) {
+            return NO_HANDLE;
+        }
+        String key = id.trim();
+        int hash = spread(key.hashCode());
+        int mask = table.length - 1;
+        int slot = hash >>> shift;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            int handle = entry - 1;
+            if (hashes[handle] == hash && ids[handle].equals(key)) {
+                return handle;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_HANDLE;
+    }
+
+    public boolean contains(String id) {
+        return handleOf(id) != NO_HANDLE;
+    }
+
+    /**
+     * Id canónico del handle.
+     *
+     * @throws IndexOutOfBoundsException si el handle no existe
+     */
+    public String idOf(int handle) {
+        return ids[Objects.checkIndex(handle, size)];
+    }
+
+    /**
+     * Número de ids registrados; los handles válidos son {@code [0, size())}.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void rehash(int newTableSize) {
+        int[] newTable = new int[newTableSize];
+        int mask = newTableSize - 1;
+        int newShift = shiftFor(newTableSize);
+        for (int handle = 0; handle < size; handle++) {
+            int slot = hashes[handle] >>> newShift;
+            while (newTable[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            newTable[slot] = handle + 1;
+        }
+        table = newTable;
+        shift = newShift;
+    }
+
+    // Hash de Fibonacci: se multiplica por 2^32 / phi y el slot se toma de los bits altos (ver shift),
+    // que dependen de todos los bits de h; así ids con hash parecido no caen en slots vecinos
+    private static int spread(int h) {
+        return h * 0x9E3779B1;
+    }
+
+    private static int shiftFor(int tableSize) {
+        return Integer.SIZE - Integer.numberOfTrailingZeros(tableSize);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int needed = (int) Math.ceil(capacity / MAX_LOAD);
+        return Integer.highestOneBit(Math.max(needed - 1, 1)) << 1;
+    }
+}
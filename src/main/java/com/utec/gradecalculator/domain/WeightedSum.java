@@ -0,0 +1,50 @@
+package com.utec.gradecalculator.domain;
+
+/**
+ * Acumulador compensado (Kahan) de {@code sum(score * weight)} y {@code sum(weight)}.
+ *
+ * Es la única implementación de la suma usada por Student, el camino columnar de GradeCalculator
+ * y el kernel escalar: por eso todos obtienen el mismo promedio para las mismas evaluaciones en el
+ * mismo orden. Mutable y no thread-safe; se reutiliza entre filas con {@link #reset()}.
+ */
+public final class WeightedSum {
+
+    private double sumWeightedScores;
+    private double sumWeightedScoresCompensation;
+    private double sumWeights;
+    private double sumWeightsCompensation;
+
+    public void add(double score, double weight) {
+        double y = score * weight - sumWeightedScoresCompensation;
+        double t = sumWeightedScores + y;
+        sumWeightedScoresCompensation = (t - sumWeightedScores) - y;
+        sumWeightedScores = t;
+
+        y = weight - sumWeightsCompensation;
+        t = sumWeights + y;
+        sumWeightsCompensation = (t - sumWeights) - y;
+        sumWeights = t;
+    }
+
+    public void reset() {
+        sumWeightedScores = 0.0;
+        sumWeightedScoresCompensation = 0.0;
+        sumWeights = 0.0;
+        sumWeightsCompensation = 0.0;
+    }
+
+    public double getSumWeightedScores() {
+        return sumWeightedScores;
+    }
+
+    public double getSumWeights() {
+        return sumWeights;
+    }
+
+    /**
+     * {@code sum(score * weight) / sum(weight)}; 0.0 si no hay peso (o no hay evaluaciones).
+     */
+    public double getWeightedAverage() {
+        return (sumWeights > 0.0) ? sumWeightedScores / sumWeights : 0.0;
+    }
+}
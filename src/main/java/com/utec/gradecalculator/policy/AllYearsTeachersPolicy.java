@@ -33,5 +33,17 @@ public final class AllYearsTeachersPolicy implements ExtraPointsPolicy {
     public double getExtraPointsConfigured() {
         return extraPointsConfigured;
     }
-}
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AllYearsTeachersPolicy)) return false;
+        AllYearsTeachersPolicy that = (AllYearsTeachersPolicy) o;
+        return Double.compare(that.extraPointsConfigured, extraPointsConfigured) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(extraPointsConfigured);
+    }
+}
@@ -29,4 +29,17 @@ public final class DefaultAttendancePolicy implements AttendancePolicy {
     public double getPenaltyPointsIfNotReached() {
         return penaltyPointsIfNotReached;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DefaultAttendancePolicy)) return false;
+        DefaultAttendancePolicy that = (DefaultAttendancePolicy) o;
+        return Double.compare(that.penaltyPointsIfNotReached, penaltyPointsIfNotReached) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(penaltyPointsIfNotReached);
+    }
 }
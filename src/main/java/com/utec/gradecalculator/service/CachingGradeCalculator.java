@@ -0,0 +1,251 @@
+package com.utec.gradecalculator.service;
+
+import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.GradeResult;
+import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.policy.AttendancePolicy;
+import com.utec.gradecalculator.policy.ExtraPointsPolicy;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Decorador opcional de {@link GradeCalculator} que memoiza resultados (útil en reclamos y
+ * recálculos donde se repiten los mismos estudiantes sin cambios).
+ *
+ * - La clave es el contenido: id del estudiante, notas y pesos de sus evaluaciones (copiados a un
+ *   double[] plano), hasReachedMinClasses, allYearsTeachers y las políticas (por equals; las políticas
+ *   incluidas comparan su configuración). Por eso cualquier addEvaluation/removeEvaluation/clearEvaluations
+ *   posterior produce otra clave y nunca se devuelve un resultado obsoleto.
+ * - Armar la clave cuesta una pasada por las evaluaciones y dos asignaciones (el arreglo y la clave).
+ *   Student ya mantiene sus sumas, así que con las políticas incluidas recalcular es más barato que un
+ *   acierto si solo se leen los números. La caché conviene cuando se lee el detalle (el acierto devuelve
+ *   el texto ya generado), cuando las políticas propias son costosas o cuando se necesita la misma
+ *   instancia de GradeResult (ver CachingGradeCalculatorBenchmark).
+ * - Capacidad acotada con desalojo LRU y expiración opcional por tiempo (TTL).
+ * - Estadísticas de aciertos, fallos y desalojos.
+ *
+ * Supone políticas deterministas y sin efectos secundarios, como exige su contrato.
+ * Es thread-safe; dos fallos concurrentes sobre la misma clave pueden calcular dos veces.
+ */
+public final class CachingGradeCalculator {
+
+    private final GradeCalculator delegate;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final LinkedHashMap<Key, Entry> cache;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Caché LRU sin expiración por tiempo.
+     */
+    public CachingGradeCalculator(GradeCalculator delegate, int maxEntries) {
+        this(delegate, maxEntries, null, System::nanoTime);
+    }
+
+    /**
+     * Caché LRU cuyas entradas expiran {@code ttl} después de calcularse.
+     */
+    public CachingGradeCalculator(GradeCalculator delegate, int maxEntries, Duration ttl) {
+        this(delegate, maxEntries, Objects.requireNonNull(ttl, "ttl must not be null"), System::nanoTime);
+    }
+
+    CachingGradeCalculator(GradeCalculator delegate, int maxEntries, Duration ttl, LongSupplier clock) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be > 0");
+        }
+        if (ttl != null && (ttl.isNegative() || ttl.isZero())) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = (ttl == null) ? Long.MAX_VALUE : ttl.toNanos();
+        this.clock = clock;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > CachingGradeCalculator.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Igual que {@link GradeCalculator#calculateFinalGrade}, devolviendo el resultado memoizado si existe.
+     */
+    public GradeResult calculateFinalGrade(
+            Student student,
+            AttendancePolicy attendancePolicy,
+            ExtraPointsPolicy extraPointsPolicy,
+            boolean allYearsTeachers) {
+
+        Objects.requireNonNull(student, "student must not be null");
+        Objects.requireNonNull(attendancePolicy, "attendancePolicy must not be null");
+        Objects.requireNonNull(extraPointsPolicy, "extraPointsPolicy must not be null");
+
+        Key key = new Key(student.getId(), scoresAndWeights(student.getEvaluations()),
+                student.hasReachedMinClasses(), allYearsTeachers, attendancePolicy, extraPointsPolicy);
+
+        synchronized (cache) {
+            Entry cached = cache.get(key);
+            if (cached != null) {
+                if (!isExpired(cached)) {
+                    hits++;
+                    return cached.result;
+                }
+                cache.remove(key);
+                evictions++;
+            }
+            misses++;
+        }
+
+        GradeResult result = delegate.calculateFinalGrade(student, attendancePolicy, extraPointsPolicy, allYearsTeachers);
+        synchronized (cache) {
+            cache.put(key, new Entry(result, clock.getAsLong()));
+        }
+        return result;
+    }
+
+    // Nota y peso de cada evaluación, intercalados: sin copiar la lista ni crear objetos por evaluación
+    private static double[] scoresAndWeights(List<Evaluation> evaluations) {
+        int n = evaluations.size();
+        double[] values = new double[2 * n];
+        for (int i = 0; i < n; i++) {
+            Evaluation e = evaluations.get(i);
+            values[2 * i] = e.getScore();
+            values[2 * i + 1] = e.getWeight();
+        }
+        return values;
+    }
+
+    private boolean isExpired(Entry entry) {
+        return ttlNanos != Long.MAX_VALUE && clock.getAsLong() - entry.createdAtNanos >= ttlNanos;
+    }
+
+    /**
+     * Elimina todas las entradas (las estadísticas se conservan).
+     */
+    public void invalidateAll() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getHitCount() {
+        synchronized (cache) {
+            return hits;
+        }
+    }
+
+    public long getMissCount() {
+        synchronized (cache) {
+            return misses;
+        }
+    }
+
+    /**
+     * Entradas eliminadas por capacidad (LRU) o por expiración.
+     */
+    public long getEvictionCount() {
+        synchronized (cache) {
+            return evictions;
+        }
+    }
+
+    /**
+     * Proporción de aciertos sobre el total de consultas (0.0 si aún no hubo consultas).
+     */
+    public double getHitRate() {
+        synchronized (cache) {
+            long total = hits + misses;
+            return (total == 0) ? 0.0 : (double) hits / total;
+        }
+    }
+
+    @Override
+    public String toString() {
+        synchronized (cache) {
+            return "CachingGradeCalculator{" +
+                    "size=" + cache.size() +
+                    ", maxEntries=" + maxEntries +
+                    ", hits=" + hits +
+                    ", misses=" + misses +
+                    ", evictions=" + evictions +
+                    '}';
+        }
+    }
+
+    private static final class Entry {
+        private final GradeResult result;
+        private final long createdAtNanos;
+
+        private Entry(GradeResult result, long createdAtNanos) {
+            this.result = result;
+            this.createdAtNanos = createdAtNanos;
+        }
+    }
+
+    private static final class Key {
+        private final String studentId;
+        private final double[] scoresAndWeights;
+        private final boolean hasReachedMinClasses;
+        private final boolean allYearsTeachers;
+        private final AttendancePolicy attendancePolicy;
+        private final ExtraPointsPolicy extraPointsPolicy;
+        private final int hash;
+
+        private Key(String studentId, double[] scoresAndWeights, boolean hasReachedMinClasses,
+                    boolean allYearsTeachers, AttendancePolicy attendancePolicy, ExtraPointsPolicy extraPointsPolicy) {
+            this.studentId = studentId;
+            this.scoresAndWeights = scoresAndWeights;
+            this.hasReachedMinClasses = hasReachedMinClasses;
+            this.allYearsTeachers = allYearsTeachers;
+            this.attendancePolicy = attendancePolicy;
+            this.extraPointsPolicy = extraPointsPolicy;
+            // Misma combinación que Objects.hash, sin el arreglo varargs ni el boxing
+            int h = studentId.hashCode();
+            h = 31 * h + Arrays.hashCode(scoresAndWeights);
+            h = 31 * h + Boolean.hashCode(hasReachedMinClasses);
+            h = 31 * h + Boolean.hashCode(allYearsTeachers);
+            h = 31 * h + attendancePolicy.hashCode();
+            this.hash = 31 * h + extraPointsPolicy.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key that = (Key) o;
+            return hash == that.hash &&
+                    hasReachedMinClasses == that.hasReachedMinClasses &&
+                    allYearsTeachers == that.allYearsTeachers &&
+                    studentId.equals(that.studentId) &&
+                    Arrays.equals(scoresAndWeights, that.scoresAndWeights) &&
+                    attendancePolicy.equals(that.attendancePolicy) &&
+                    extraPointsPolicy.equals(that.extraPointsPolicy);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
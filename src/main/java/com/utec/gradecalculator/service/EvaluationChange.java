@@ -0,0 +1,103 @@
+package com.utec.gradecalculator.service;
+
+import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.Student;
+
+import java.util.Objects;
+
+/**
+ * Cambio sobre las evaluaciones de un estudiante, registrado en el log de {@link IncrementalRegrader}.
+ * Inmutable; se crea con {@link #added}, {@link #removed} o {@link #corrected}.
+ */
+public final class EvaluationChange {
+
+    public enum Kind {
+        ADDED,
+        REMOVED,
+        CORRECTED
+    }
+
+    private final Kind kind;
+    private final String studentId;
+    private final int index;
+    private final Evaluation evaluation;
+
+    private EvaluationChange(Kind kind, String studentId, int index, Evaluation evaluation) {
+        this.kind = kind;
+        // Misma normalización que Student, para coincidir con las claves de la cohorte
+        this.studentId = Objects.requireNonNull(studentId, "studentId must not be null").trim();
+        this.index = index;
+        this.evaluation = evaluation;
+    }
+
+    /**
+     * Nueva evaluación al final de la lista del estudiante.
+     */
+    public static EvaluationChange added(String studentId, Evaluation evaluation) {
+        return new EvaluationChange(Kind.ADDED, studentId, -1,
+                Objects.requireNonNull(evaluation, "evaluation must not be null"));
+    }
+
+    /**
+     * Se elimina la evaluación en la posición {@code index}.
+     */
+    public static EvaluationChange removed(String studentId, int index) {
+        return new EvaluationChange(Kind.REMOVED, studentId, index, null);
+    }
+
+    /**
+     * La evaluación en la posición {@code index} se reemplaza (p. ej. corrección de nota).
+     */
+    public static EvaluationChange corrected(String studentId, int index, Evaluation evaluation) {
+        return new EvaluationChange(Kind.CORRECTED, studentId, index,
+                Objects.requireNonNull(evaluation, "evaluation must not be null"));
+    }
+
+    void applyTo(Student student) {
+        switch (kind) {
+            case ADDED:
+                student.addEvaluation(evaluation);
+                break;
+            case REMOVED:
+                student.removeEvaluation(index);
+                break;
+            case CORRECTED:
+                student.setEvaluation(index, evaluation);
+                break;
+            default:
+                throw new IllegalStateException("Unknown change kind: " + kind);
+        }
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getStudentId() {
+        return studentId;
+    }
+
+    /**
+     * Posición afectada; -1 para {@link Kind#ADDED}.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Evaluación nueva; null para {@link Kind#REMOVED}.
+     */
+    public Evaluation getEvaluation() {
+        return evaluation;
+    }
+
+    @Override
+    public String toString() {
+        return "EvaluationChange{" +
+                "kind=" + kind +
+                ", studentId='" + studentId + '\'' +
+                ", index=" + index +
+                ", evaluation=" + evaluation +
+                '}';
+    }
+}
@@ -1,21 +1,73 @@
 package com.utec.gradecalculator.service;
 
-import com.utec.gradecalculator.domain.GradeResult;
+import com.utec.gradecalculator.domain.CohortColumns;
+import com.utec.gradecalculator.domain.CourseSchema;
 import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.GradeResult;
 import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.domain.WeightedSum;
 import com.utec.gradecalculator.policy.AttendancePolicy;
 import com.utec.gradecalculator.policy.ExtraPointsPolicy;
 
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 /**
  * Servicio que orquesta el cálculo de la nota final.
  * - No tiene estado mutable.
  * - Es determinista.
+ * - Instrumentación opcional mediante {@link GradingMetrics} (sin costo con el valor por defecto).
+ * - Aritmética configurable con {@link GradingMode} (punto flotante por defecto, o punto fijo exacto).
  */
 public final class GradeCalculator {
 
+    /**
+     * Número de valores que {@code writeResult}/{@code writeResults} escriben por estudiante.
+     */
+    public static final int RESULT_STRIDE = 4;
+    public static final int WEIGHTED_AVERAGE_SLOT = 0;
+    public static final int PENALTY_SLOT = 1;
+    public static final int EXTRA_POINTS_SLOT = 2;
+    public static final int FINAL_GRADE_SLOT = 3;
+
+    private static final long HUNDREDTHS = 100L;
+    // Filas por tarea en el cálculo paralelo de una cohorte columnar
+    private static final int PARALLEL_CHUNK_ROWS = 1024;
+
+    private final GradingMetrics metrics;
+    private final boolean instrumented;
+    private final GradingMode mode;
+
+    public GradeCalculator() {
+        this(GradingMetrics.NOOP, GradingMode.FLOATING_POINT);
+    }
+
+    /**
+     * @param metrics destino de métricas (no null); {@link GradingMetrics#NOOP} desactiva la instrumentación
+     */
+    public GradeCalculator(GradingMetrics metrics) {
+        this(metrics, GradingMode.FLOATING_POINT);
+    }
+
+    /**
+     * @param metrics destino de métricas (no null); {@link GradingMetrics#NOOP} desactiva la instrumentación
+     * @param mode    aritmética del promedio ponderado (no null)
+     */
+    public GradeCalculator(GradingMetrics metrics, GradingMode mode) {
+        this.metrics = Objects.requireNonNull(metrics, "metrics must not be null");
+        this.instrumented = metrics != GradingMetrics.NOOP;
+        this.mode = Objects.requireNonNull(mode, "mode must not be null");
+    }
+
+    public GradingMode getMode() {
+        return mode;
+    }
+
     /**
      * Calcula la nota final del estudiante usando las políticas provistas.
      *
@@ -35,42 +87,516 @@ public final class GradeCalculator {
         Objects.requireNonNull(attendancePolicy, "attendancePolicy must not be null");
         Objects.requireNonNull(extraPointsPolicy, "extraPointsPolicy must not be null");
 
-        List<Evaluation> evaluations = student.getEvaluations();
+        return grade(student, GradingPlan.compile(attendancePolicy, extraPointsPolicy), allYearsTeachers);
+    }
 
-        double sumWeightedScores = 0.0;
-        double sumWeights = 0.0;
-        for (Evaluation e : evaluations) {
-            // Evaluations already validadas; asumimos score y weight válidos
-            sumWeightedScores += e.getScore() * e.getWeight();
-            sumWeights += e.getWeight();
+    /**
+     * Calcula la nota final del estudiante con una combinación de políticas ya compilada.
+     * Conviene cuando se reutilizan las mismas políticas para muchos estudiantes.
+     *
+     * @param student            estudiante (no null)
+     * @param plan               políticas compiladas (no null)
+     * @param allYearsTeachers   valor boolean que representa el consenso colectivo
+     * @return GradeResult con detalle del cálculo
+     */
+    public GradeResult calculateFinalGrade(Student student, GradingPlan plan, boolean allYearsTeachers) {
+        Objects.requireNonNull(student, "student must not be null");
+        Objects.requireNonNull(plan, "plan must not be null");
+
+        return grade(student, plan, allYearsTeachers);
+    }
+
+    /**
+     * Calcula la nota final de un lote de estudiantes (p. ej. toda una cohorte al cierre del ciclo).
+     * Las políticas se validan una sola vez por lote y los resultados se devuelven en el mismo
+     * orden de iteración de {@code students}.
+     *
+     * @param students           estudiantes (no null, sin elementos null)
+     * @param attendancePolicy   política de asistencia (no null)
+     * @param extraPointsPolicy  política de puntos extra (no null)
+     * @param allYearsTeachers   consenso colectivo aplicado a todo el lote
+     * @param parallel           si es true reparte el trabajo en el pool fork-join común
+     * @return lista inmutable de GradeResult, uno por estudiante y en orden de entrada
+     */
+    public List<GradeResult> calculateFinalGrades(
+            Collection<Student> students,
+            AttendancePolicy attendancePolicy,
+            ExtraPointsPolicy extraPointsPolicy,
+            boolean allYearsTeachers,
+            boolean parallel) {
+
+        Objects.requireNonNull(students, "students must not be null");
+        Objects.requireNonNull(attendancePolicy, "attendancePolicy must not be null");
+        Objects.requireNonNull(extraPointsPolicy, "extraPointsPolicy must not be null");
+
+        Student[] input = students.toArray(new Student[0]);
+        for (Student s : input) {
+            Objects.requireNonNull(s, "students must not contain null elements");
         }
 
-        final double weightedAverage;
-        if (sumWeights > 0.0) {
-            weightedAverage = sumWeightedScores / sumWeights;
+        GradingPlan plan = GradingPlan.compile(attendancePolicy, extraPointsPolicy);
+        GradeResult[] results = new GradeResult[input.length];
+        if (parallel) {
+            Arrays.parallelSetAll(results, i -> grade(input[i], plan, allYearsTeachers));
         } else {
-            // Definición: si no hay peso (o no hay evaluaciones) el promedio es 0.0
-            // Esto facilita manejo de caso borde en la rúbrica.
-            // También se incluye en el detalle.
-            weightedAverage = 0.0;
+            Arrays.setAll(results, i -> grade(input[i], plan, allYearsTeachers));
         }
+        return List.of(results);
+    }
+
+    /**
+     * Equivalente a {@link #calculateFinalGrades(Collection, AttendancePolicy, ExtraPointsPolicy, boolean, boolean)}
+     * en modo secuencial.
+     */
+    public List<GradeResult> calculateFinalGrades(
+            Collection<Student> students,
+            AttendancePolicy attendancePolicy,
+            ExtraPointsPolicy extraPointsPolicy,
+            boolean allYearsTeachers) {
+        return calculateFinalGrades(students, attendancePolicy, extraPointsPolicy, allYearsTeachers, false);
+    }
+
+    /**
+     * Calcula la nota final de una fila de una cohorte columnar ({@link com.utec.gradecalculator.domain.CohortTable},
+     * snapshot mapeado, etc.), leyendo notas y pesos directamente de sus columnas.
+     * Con {@link com.utec.gradecalculator.policy.AllYearsTeachersPolicy} la fila nunca se materializa;
+     * cualquier otra ExtraPointsPolicy recibe un Student reconstruido a partir de la fila.
+     *
+     * @param cohort             cohorte columnar (no null)
+     * @param index              fila del estudiante en la cohorte
+     * @param attendancePolicy   política de asistencia (no null)
+     * @param extraPointsPolicy  política de puntos extra (no null)
+     * @param allYearsTeachers   valor boolean que representa el consenso colectivo
+     * @return GradeResult con detalle del cálculo
+     */
+    public GradeResult calculateFinalGrade(
+            CohortColumns cohort,
+            int index,
+            AttendancePolicy attendancePolicy,
+            ExtraPointsPolicy extraPointsPolicy,
+            boolean allYearsTeachers) {
+
+        Objects.requireNonNull(cohort, "cohort must not be null");
+        Objects.requireNonNull(attendancePolicy, "attendancePolicy must not be null");
+        Objects.requireNonNull(extraPointsPolicy, "extraPointsPolicy must not be null");
+        Objects.checkIndex(index, cohort.size());
 
-        double penalty = attendancePolicy.computePenalty(student.hasReachedMinClasses(), weightedAverage);
-        if (Double.isNaN(penalty) || Double.isInfinite(penalty) || penalty < 0.0) {
-            throw new IllegalStateException("AttendancePolicy returned invalid penalty: " + penalty);
+        return grade(cohort, index, GradingPlan.compile(attendancePolicy, extraPointsPolicy), allYearsTeachers,
+                new ColumnScratch());
+    }
+
+    /**
+     * Igual que {@link #calculateFinalGrade(CohortColumns, int, AttendancePolicy, ExtraPointsPolicy, boolean)}
+     * con una combinación de políticas ya compilada.
+     */
+    public GradeResult calculateFinalGrade(CohortColumns cohort, int index, GradingPlan plan, boolean allYearsTeachers) {
+        Objects.requireNonNull(cohort, "cohort must not be null");
+        Objects.requireNonNull(plan, "plan must not be null");
+        Objects.checkIndex(index, cohort.size());
+
+        return grade(cohort, index, plan, allYearsTeachers, new ColumnScratch());
+    }
+
+    /**
+     * Calcula la nota final de todas las filas de una cohorte columnar, en orden de fila.
+     *
+     * @param cohort             cohorte columnar (no null)
+     * @param attendancePolicy   política de asistencia (no null)
+     * @param extraPointsPolicy  política de puntos extra (no null)
+     * @param allYearsTeachers   consenso colectivo aplicado a toda la cohorte
+     * @param parallel           si es true reparte el trabajo en el pool fork-join común
+     * @return lista inmutable de GradeResult, uno por fila
+     */
+    public List<GradeResult> calculateFinalGrades(
+            CohortColumns cohort,
+            AttendancePolicy attendancePolicy,
+            ExtraPointsPolicy extraPointsPolicy,
+            boolean allYearsTeachers,
+            boolean parallel) {
+
+        Objects.requireNonNull(cohort, "cohort must not be null");
+        Objects.requireNonNull(attendancePolicy, "attendancePolicy must not be null");
+        Objects.requireNonNull(extraPointsPolicy, "extraPointsPolicy must not be null");
+
+        GradingPlan plan = GradingPlan.compile(attendancePolicy, extraPointsPolicy);
+        int n = cohort.size();
+        GradeResult[] results = new GradeResult[n];
+        if (parallel) {
+            // Tramos de filas contiguas: cada tarea reutiliza su propio ColumnScratch
+            int chunks = (n + PARALLEL_CHUNK_ROWS - 1) / PARALLEL_CHUNK_ROWS;
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                ColumnScratch scratch = new ColumnScratch();
+                int end = Math.min(n, (c + 1) * PARALLEL_CHUNK_ROWS);
+                for (int i = c * PARALLEL_CHUNK_ROWS; i < end; i++) {
+                    results[i] = grade(cohort, i, plan, allYearsTeachers, scratch);
+                }
+            });
+        } else {
+            ColumnScratch scratch = new ColumnScratch();
+            Arrays.setAll(results, i -> grade(cohort, i, plan, allYearsTeachers, scratch));
         }
+        return List.of(results);
+    }
 
-        double extra = extraPointsPolicy.computeExtraPoints(allYearsTeachers, student);
-        if (Double.isNaN(extra) || Double.isInfinite(extra) || extra < 0.0) {
-            throw new IllegalStateException("ExtraPointsPolicy returned invalid extra points: " + extra);
+    /**
+     * Calcula la nota final de un estudiante de un curso con esquema fijo: solo se indican sus notas
+     * (en el orden del esquema). El resultado es idéntico al de {@link CourseSchema#toStudent} con las
+     * mismas notas, en ambos modos de {@link GradingMode}.
+     *
+     * Como no hay un Student (ni siquiera un id), solo se admite la política de extra incluida
+     * ({@link com.utec.gradecalculator.policy.AllYearsTeachersPolicy}); para otras, calificar
+     * {@code schema.toStudent(...)}.
+     *
+     * @param schema               esquema de pesos del curso (no null)
+     * @param scores               una nota por evaluación del esquema (no null)
+     * @param hasReachedMinClasses asistencia mínima del estudiante
+     * @param plan                 políticas compiladas (no null)
+     * @param allYearsTeachers     valor boolean que representa el consenso colectivo
+     * @return GradeResult con detalle del cálculo
+     * @throws IllegalArgumentException si la cantidad de notas no coincide con el esquema o alguna es inválida,
+     *                                  o si la política de extra del plan no es la incluida
+     */
+    public GradeResult calculateFinalGrade(CourseSchema schema,
+                                           double[] scores,
+                                           boolean hasReachedMinClasses,
+                                           GradingPlan plan,
+                                           boolean allYearsTeachers) {
+        Objects.requireNonNull(schema, "schema must not be null");
+        Objects.requireNonNull(plan, "plan must not be null");
+        requireStudentIndependentExtraPoints(plan);
+
+        return grade(schema, scores, hasReachedMinClasses, plan, allYearsTeachers);
+    }
+
+    /**
+     * Calcula la nota final de cada fila de {@code scores} con el mismo esquema, en orden de fila.
+     *
+     * @param scores               notas de cada estudiante (no null, filas no null)
+     * @param hasReachedMinClasses asistencia de cada estudiante (mismo largo que {@code scores})
+     * @return lista inmutable de GradeResult, uno por fila
+     * @throws IllegalArgumentException en los mismos casos que
+     *                                  {@link #calculateFinalGrade(CourseSchema, double[], boolean, GradingPlan, boolean)}
+     */
+    public List<GradeResult> calculateFinalGrades(CourseSchema schema,
+                                                  double[][] scores,
+                                                  boolean[] hasReachedMinClasses,
+                                                  GradingPlan plan,
+                                                  boolean allYearsTeachers) {
+        Objects.requireNonNull(schema, "schema must not be null");
+        Objects.requireNonNull(scores, "scores must not be null");
+        Objects.requireNonNull(hasReachedMinClasses, "hasReachedMinClasses must not be null");
+        Objects.requireNonNull(plan, "plan must not be null");
+        requireStudentIndependentExtraPoints(plan);
+        if (scores.length != hasReachedMinClasses.length) {
+            throw new IllegalArgumentException("expected " + scores.length + " attendance flags (was: "
+                    + hasReachedMinClasses.length + ")");
         }
 
-        double rawFinal = weightedAverage - penalty + extra;
-        double finalGrade = clamp(rawFinal, 0.0, 100.0);
+        GradeResult[] results = new GradeResult[scores.length];
+        Arrays.setAll(results, i -> grade(schema, scores[i], hasReachedMinClasses[i], plan, allYearsTeachers));
+        return List.of(results);
+    }
+
+    /**
+     * Variante sin asignación para procesos masivos: escribe los componentes del resultado en
+     * {@code sink[offset .. offset + RESULT_STRIDE)} según los índices {@code *_SLOT}, en lugar de
+     * crear un GradeResult. Los valores se validan con las mismas reglas que GradeResult
+     * (ver {@link GradeResult#validateComponents}) antes de escribirse.
+     *
+     * @param student            estudiante (no null)
+     * @param plan               políticas compiladas (no null)
+     * @param allYearsTeachers   valor boolean que representa el consenso colectivo
+     * @param sink               destino (no null)
+     * @param offset             posición inicial en {@code sink}
+     * @throws IllegalArgumentException si algún componente queda fuera de las reglas de GradeResult
+     */
+    public void writeResult(Student student, GradingPlan plan, boolean allYearsTeachers, double[] sink, int offset) {
+        Objects.requireNonNull(student, "student must not be null");
+        Objects.requireNonNull(plan, "plan must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+        Objects.checkFromIndexSize(offset, RESULT_STRIDE, sink.length);
+
+        long start = instrumented ? System.nanoTime() : 0L;
+        double weightedAverage;
+        if (mode == GradingMode.FIXED_POINT) {
+            weightedAverage = fixedPointAverage(student.getSumWeightedScoresHundredths(),
+                    student.getSumWeightsHundredths());
+        } else {
+            weightedAverage = weightedAverage(student.getSumWeightedScores(), student.getSumWeights());
+        }
+        writeComponents(weightedAverage, student.hasReachedMinClasses(), student, plan, allYearsTeachers, sink, offset);
+        if (instrumented) {
+            metrics.onGradeCalculated(System.nanoTime() - start);
+        }
+    }
 
-        String detail = buildDetail(weightedAverage, sumWeights, penalty, extra, finalGrade);
+    /**
+     * Escribe {@code RESULT_STRIDE} valores por fila de la cohorte, a partir de {@code sink[offset]}
+     * (fila {@code i} en {@code offset + i * RESULT_STRIDE}).
+     *
+     * @throws IndexOutOfBoundsException si {@code sink} no tiene espacio para toda la cohorte
+     */
+    public void writeResults(CohortColumns cohort, GradingPlan plan, boolean allYearsTeachers, double[] sink, int offset) {
+        Objects.requireNonNull(cohort, "cohort must not be null");
+        Objects.requireNonNull(plan, "plan must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+        int n = cohort.size();
+        Objects.checkFromIndexSize(offset, Math.multiplyExact(n, RESULT_STRIDE), sink.length);
 
-        return new GradeResult(weightedAverage, penalty, extra, finalGrade, detail);
+        ColumnScratch scratch = new ColumnScratch();
+        for (int i = 0; i < n; i++) {
+            writeRow(cohort, i, plan, allYearsTeachers, scratch, sink, offset + i * RESULT_STRIDE);
+        }
+    }
+
+    /**
+     * Igual que {@link #writeResults(CohortColumns, GradingPlan, boolean, double[], int)} pero escribiendo
+     * con {@code put} relativos en un {@link DoubleBuffer} (p. ej. un buffer directo o mapeado a archivo).
+     *
+     * @throws BufferOverflowException si {@code sink.remaining()} no alcanza para toda la cohorte
+     */
+    public void writeResults(CohortColumns cohort, GradingPlan plan, boolean allYearsTeachers, DoubleBuffer sink) {
+        Objects.requireNonNull(cohort, "cohort must not be null");
+        Objects.requireNonNull(plan, "plan must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
+        int n = cohort.size();
+        if (sink.remaining() < (long) n * RESULT_STRIDE) {
+            throw new BufferOverflowException();
+        }
+
+        ColumnScratch scratch = new ColumnScratch();
+        double[] row = new double[RESULT_STRIDE];
+        for (int i = 0; i < n; i++) {
+            writeRow(cohort, i, plan, allYearsTeachers, scratch, row, 0);
+            sink.put(row);
+        }
+    }
+
+    /**
+     * Escribe solo la nota final de cada fila: {@code finalGrades[offset + i]}.
+     *
+     * @throws IndexOutOfBoundsException si {@code finalGrades} no tiene espacio para toda la cohorte
+     */
+    public void writeFinalGrades(CohortColumns cohort, GradingPlan plan, boolean allYearsTeachers,
+                                 double[] finalGrades, int offset) {
+        Objects.requireNonNull(cohort, "cohort must not be null");
+        Objects.requireNonNull(plan, "plan must not be null");
+        Objects.requireNonNull(finalGrades, "finalGrades must not be null");
+        int n = cohort.size();
+        Objects.checkFromIndexSize(offset, n, finalGrades.length);
+
+        ColumnScratch scratch = new ColumnScratch();
+        double[] row = new double[RESULT_STRIDE];
+        for (int i = 0; i < n; i++) {
+            writeRow(cohort, i, plan, allYearsTeachers, scratch, row, 0);
+            finalGrades[offset + i] = row[FINAL_GRADE_SLOT];
+        }
+    }
+
+    // Núcleo del cálculo: asume argumentos ya validados por el método público que lo invoca.
+    private GradeResult grade(Student student, GradingPlan plan, boolean allYearsTeachers) {
+        if (!instrumented) {
+            return gradeUntimed(student, plan, allYearsTeachers);
+        }
+        long start = System.nanoTime();
+        GradeResult result = gradeUntimed(student, plan, allYearsTeachers);
+        metrics.onGradeCalculated(System.nanoTime() - start);
+        return result;
+    }
+
+    private GradeResult grade(CohortColumns cohort, int index, GradingPlan plan, boolean allYearsTeachers,
+                              ColumnScratch scratch) {
+        if (!instrumented) {
+            return gradeUntimed(cohort, index, plan, allYearsTeachers, scratch);
+        }
+        long start = System.nanoTime();
+        GradeResult result = gradeUntimed(cohort, index, plan, allYearsTeachers, scratch);
+        metrics.onGradeCalculated(System.nanoTime() - start);
+        return result;
+    }
+
+    private GradeResult grade(CourseSchema schema, double[] scores, boolean hasReachedMinClasses,
+                              GradingPlan plan, boolean allYearsTeachers) {
+        long start = instrumented ? System.nanoTime() : 0L;
+        double weightedAverage;
+        double sumWeights;
+        if (mode == GradingMode.FIXED_POINT) {
+            weightedAverage = schema.weightedAverageFixedPoint(scores);
+            sumWeights = (double) schema.getTotalWeightHundredths() / HUNDREDTHS;
+        } else {
+            weightedAverage = schema.weightedAverage(scores);
+            sumWeights = schema.getTotalWeight();
+        }
+        GradeResult result = applyPolicies(weightedAverage, sumWeights, hasReachedMinClasses, null,
+                plan, allYearsTeachers);
+        if (instrumented) {
+            metrics.onGradeCalculated(System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    private GradeResult gradeUntimed(Student student, GradingPlan plan, boolean allYearsTeachers) {
+        if (mode == GradingMode.FIXED_POINT) {
+            long sumWeightsHundredths = student.getSumWeightsHundredths();
+            return applyPolicies(fixedPointAverage(student.getSumWeightedScoresHundredths(), sumWeightsHundredths),
+                    (double) sumWeightsHundredths / HUNDREDTHS, student.hasReachedMinClasses(), student,
+                    plan, allYearsTeachers);
+        }
+        // Student mantiene las sumas (compensadas) al día: no hace falta recorrer sus evaluaciones
+        double sumWeights = student.getSumWeights();
+        return applyPolicies(weightedAverage(student.getSumWeightedScores(), sumWeights), sumWeights,
+                student.hasReachedMinClasses(), student, plan, allYearsTeachers);
+    }
+
+    // Variante columnar: recorre directamente las columnas de la cohorte, sin crear objetos por evaluación.
+    private GradeResult gradeUntimed(CohortColumns cohort, int index, GradingPlan plan, boolean allYearsTeachers,
+                                     ColumnScratch scratch) {
+        double weightedAverage = averageColumns(cohort, index, scratch);
+
+        return applyPolicies(weightedAverage, scratch.sumWeights, cohort.hasReachedMinClasses(index),
+                studentForExtraPoints(cohort, index, plan), plan, allYearsTeachers);
+    }
+
+    // Escribe una fila en el sink; el tiempo medido cubre la fila completa (suma + políticas), igual que grade.
+    private void writeRow(CohortColumns cohort, int index, GradingPlan plan, boolean allYearsTeachers,
+                          ColumnScratch scratch, double[] sink, int offset) {
+        long start = instrumented ? System.nanoTime() : 0L;
+        writeComponents(averageColumns(cohort, index, scratch), cohort.hasReachedMinClasses(index),
+                studentForExtraPoints(cohort, index, plan), plan, allYearsTeachers, sink, offset);
+        if (instrumented) {
+            metrics.onGradeCalculated(System.nanoTime() - start);
+        }
+    }
+
+    // Devuelve el promedio ponderado de la fila según el modo y deja la suma de pesos en scratch.sumWeights.
+    private double averageColumns(CohortColumns cohort, int index, ColumnScratch scratch) {
+        if (mode == GradingMode.FIXED_POINT) {
+            long sumWeightedScores = 0L;
+            long sumWeights = 0L;
+            int end = cohort.evaluationEnd(index);
+            for (int j = cohort.evaluationStart(index); j < end; j++) {
+                long weight = Evaluation.toHundredths(cohort.getWeight(j));
+                sumWeightedScores += Evaluation.toHundredths(cohort.getScore(j)) * weight;
+                sumWeights += weight;
+            }
+            scratch.sumWeights = (double) sumWeights / HUNDREDTHS;
+            return fixedPointAverage(sumWeightedScores, sumWeights);
+        }
+        sumColumns(cohort, index, scratch.sum);
+        scratch.sumWeights = scratch.sum.getSumWeights();
+        return scratch.sum.getWeightedAverage();
+    }
+
+    // Estado reutilizable entre filas del camino columnar; cada hilo usa el suyo.
+    private static final class ColumnScratch {
+        final WeightedSum sum = new WeightedSum();
+        double sumWeights;
+    }
+
+    // La política incluida no usa el estudiante: solo se reconstruye la fila para políticas propias,
+    // que por contrato reciben el Student (nunca null) como en el camino basado en Student.
+    private static Student studentForExtraPoints(CohortColumns cohort, int index, GradingPlan plan) {
+        if (plan.isConstantExtraPoints()) {
+            return null;
+        }
+        Student student = new Student(cohort.getId(index));
+        student.setHasReachedMinClasses(cohort.hasReachedMinClasses(index));
+        int end = cohort.evaluationEnd(index);
+        for (int j = cohort.evaluationStart(index); j < end; j++) {
+            student.addEvaluation(new Evaluation(cohort.getScore(j), cohort.getWeight(j)));
+        }
+        return student;
+    }
+
+    private static void requireStudentIndependentExtraPoints(GradingPlan plan) {
+        if (!plan.isConstantExtraPoints()) {
+            throw new IllegalArgumentException("CourseSchema grading has no Student to pass to a custom "
+                    + "ExtraPointsPolicy; grade schema.toStudent(...) instead");
+        }
+    }
+
+    // Sumas en centésimas (score*weight en diezmilésimas): enteros exactos, y una sola división redondeada
+    private static double fixedPointAverage(long sumWeightedScoresHundredths, long sumWeightsHundredths) {
+        return (sumWeightsHundredths > 0L)
+                ? (double) sumWeightedScoresHundredths / (double) (sumWeightsHundredths * HUNDREDTHS)
+                : 0.0;
+    }
+
+    // Deja en sum las sumas compensadas de la fila: el mismo WeightedSum que usa Student.
+    static void sumColumns(CohortColumns cohort, int index, WeightedSum sum) {
+        sum.reset();
+        int end = cohort.evaluationEnd(index);
+        for (int j = cohort.evaluationStart(index); j < end; j++) {
+            sum.add(cohort.getScore(j), cohort.getWeight(j));
+        }
+    }
+
+    private GradeResult applyPolicies(double weightedAverage,
+                                      double sumWeights,
+                                      boolean hasReachedMinClasses,
+                                      Student student,
+                                      GradingPlan plan,
+                                      boolean allYearsTeachers) {
+        double penalty = penalty(plan, hasReachedMinClasses, weightedAverage);
+        double extra = extraPoints(plan, allYearsTeachers, student);
+        double finalGrade = finalGrade(weightedAverage, penalty, extra);
+
+        // El detalle (RF05) se genera solo si alguien lo lee: los procesos masivos no pagan por él
+        return GradeResult.withLazyDetail(weightedAverage, sumWeights, penalty, extra, finalGrade);
+    }
+
+    // Mismo cálculo que applyPolicies, pero escribe los componentes en el sink en lugar de crear un GradeResult.
+    private void writeComponents(double weightedAverage,
+                                 boolean hasReachedMinClasses,
+                                 Student student,
+                                 GradingPlan plan,
+                                 boolean allYearsTeachers,
+                                 double[] sink,
+                                 int offset) {
+        double penalty = penalty(plan, hasReachedMinClasses, weightedAverage);
+        double extra = extraPoints(plan, allYearsTeachers, student);
+        double finalGrade = finalGrade(weightedAverage, penalty, extra);
+        // Mismas reglas que el constructor de GradeResult: el sink nunca recibe una fila que él rechazaría
+        GradeResult.validateComponents(weightedAverage, penalty, extra, finalGrade);
+
+        sink[offset + WEIGHTED_AVERAGE_SLOT] = weightedAverage;
+        sink[offset + PENALTY_SLOT] = penalty;
+        sink[offset + EXTRA_POINTS_SLOT] = extra;
+        sink[offset + FINAL_GRADE_SLOT] = finalGrade;
+    }
+
+    static double weightedAverage(double sumWeightedScores, double sumWeights) {
+        if (sumWeights > 0.0) {
+            return sumWeightedScores / sumWeights;
+        }
+        // Definición: si no hay peso (o no hay evaluaciones) el promedio es 0.0
+        // Esto facilita manejo de caso borde en la rúbrica.
+        // También se incluye en el detalle.
+        return 0.0;
+    }
+
+    // El plan devuelve valores ya validados (constantes o revisados en la llamada)
+    private double penalty(GradingPlan plan, boolean hasReachedMinClasses, double weightedAverage) {
+        try {
+            return plan.penalty(hasReachedMinClasses, weightedAverage);
+        } catch (IllegalStateException ex) {
+            metrics.onAttendancePolicyFailure();
+            throw ex;
+        }
+    }
+
+    private double extraPoints(GradingPlan plan, boolean allYearsTeachers, Student student) {
+        try {
+            return plan.extraPoints(allYearsTeachers, student);
+        } catch (IllegalStateException ex) {
+            metrics.onExtraPointsPolicyFailure();
+            throw ex;
+        }
+    }
+
+    static double finalGrade(double weightedAverage, double penalty, double extra) {
+        double rawFinal = weightedAverage - penalty + extra;
+        return clamp(rawFinal, 0.0, 100.0);
     }
 
     private static double clamp(double v, double min, double max) {
@@ -78,13 +604,4 @@ public final class GradeCalculator {
         if (v > max) return max;
         return v;
     }
-
-    private static String buildDetail(double weightedAverage, double sumWeights,
-                                      double penalty, double extraPoints, double finalGrade) {
-        // Formato compacto y claro, cumple RF05
-        return String.format(
-                "weightedAverage=%.4f, sumWeights=%.4f, penalty=%.4f, extraPoints=%.4f, finalGrade=%.4f",
-                weightedAverage, sumWeights, penalty, extraPoints, finalGrade
-        );
-    }
 }
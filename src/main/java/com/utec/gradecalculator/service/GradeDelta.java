@@ -0,0 +1,65 @@
+package com.utec.gradecalculator.service;
+
+import com.utec.gradecalculator.domain.GradeResult;
+
+import java.util.Objects;
+
+/**
+ * Resultado recalculado de un estudiante tras aplicar cambios: valor anterior y actual.
+ * Inmutable.
+ */
+public final class GradeDelta {
+
+    private final String studentId;
+    private final GradeResult previous;
+    private final GradeResult current;
+
+    public GradeDelta(String studentId, GradeResult previous, GradeResult current) {
+        this.studentId = Objects.requireNonNull(studentId, "studentId must not be null");
+        this.previous = Objects.requireNonNull(previous, "previous must not be null");
+        this.current = Objects.requireNonNull(current, "current must not be null");
+    }
+
+    public String getStudentId() {
+        return studentId;
+    }
+
+    public GradeResult getPrevious() {
+        return previous;
+    }
+
+    public GradeResult getCurrent() {
+        return current;
+    }
+
+    /**
+     * Diferencia de nota final (actual - anterior).
+     */
+    public double getFinalGradeChange() {
+        return current.getFinalGrade() - previous.getFinalGrade();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof GradeDelta)) return false;
+        GradeDelta that = (GradeDelta) o;
+        return studentId.equals(that.studentId) &&
+                previous.equals(that.previous) &&
+                current.equals(that.current);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentId, previous, current);
+    }
+
+    @Override
+    public String toString() {
+        return "GradeDelta{" +
+                "studentId='" + studentId + '\'' +
+                ", previousFinalGrade=" + previous.getFinalGrade() +
+                ", currentFinalGrade=" + current.getFinalGrade() +
+                '}';
+    }
+}
@@ -0,0 +1,221 @@
+package com.utec.gradecalculator.service;
+
+import com.utec.gradecalculator.domain.GradeResult;
+
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Estadísticas de una distribución de notas finales, calculadas en una sola pasada y con memoria
+ * constante (en el estilo de {@link java.util.DoubleSummaryStatistics}):
+ *  - cantidad y promedio (suma / cantidad, igual que promediar las notas a mano)
+ *  - varianza (algoritmo de Welford, numéricamente estable)
+ *  - mínimo y máximo
+ *  - histograma de {@value #BUCKETS} rangos de 1 punto sobre [0, 100] (100 cae en el último)
+ *  - percentiles aproximados (error máximo de 1 punto, el ancho de un rango)
+ *  - cantidad y proporción de aprobados (nota >= passingGrade)
+ *
+ * No es thread-safe: en cálculos paralelos se usa un acumulador por hilo y luego
+ * {@link #combine(GradeStatistics)}. Sin notas, promedio, varianza, mínimo, máximo y
+ * percentiles son 0.0.
+ */
+public final class GradeStatistics implements DoubleConsumer {
+
+    public static final int BUCKETS = 100;
+
+    private final double passingGrade;
+    private final long[] histogram = new long[BUCKETS];
+
+    private long count;
+    private double sum;
+    // Promedio móvil de Welford: solo sirve de referencia para m2 (getMean usa sum / count)
+    private double mean;
+    // Suma de cuadrados de las diferencias respecto del promedio (Welford)
+    private double m2;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private long passed;
+
+    /**
+     * @param passingGrade nota mínima aprobatoria (finita, en [0, 100])
+     */
+    public GradeStatistics(double passingGrade) {
+        if (!isGrade(passingGrade)) {
+            throw new IllegalArgumentException("passingGrade must be a finite number between 0 and 100");
+        }
+        this.passingGrade = passingGrade;
+    }
+
+    private GradeStatistics(GradeStatistics source) {
+        this.passingGrade = source.passingGrade;
+        System.arraycopy(source.histogram, 0, this.histogram, 0, BUCKETS);
+        this.count = source.count;
+        this.sum = source.sum;
+        this.mean = source.mean;
+        this.m2 = source.m2;
+        this.min = source.min;
+        this.max = source.max;
+        this.passed = source.passed;
+    }
+
+    /**
+     * Copia independiente con las notas acumuladas hasta ahora.
+     */
+    public GradeStatistics copy() {
+        return new GradeStatistics(this);
+    }
+
+    /**
+     * Registra una nota final.
+     *
+     * @throws IllegalArgumentException si la nota no es finita o está fuera de [0, 100]
+     */
+    @Override
+    public void accept(double grade) {
+        if (!isGrade(grade)) {
+            throw new IllegalArgumentException("grade must be a finite number between 0 and 100");
+        }
+        count++;
+        sum += grade;
+        double delta = grade - mean;
+        mean += delta / count;
+        m2 += delta * (grade - mean);
+        min = Math.min(min, grade);
+        max = Math.max(max, grade);
+        histogram[bucketOf(grade)]++;
+        if (grade >= passingGrade) {
+            passed++;
+        }
+    }
+
+    /**
+     * Registra la nota final de un resultado.
+     */
+    public void accept(GradeResult result) {
+        Objects.requireNonNull(result, "result must not be null");
+        accept(result.getFinalGrade());
+    }
+
+    /**
+     * Incorpora las notas acumuladas en {@code other} (que no se modifica).
+     *
+     * @throws IllegalArgumentException si {@code other} usa otra nota aprobatoria
+     */
+    public void combine(GradeStatistics other) {
+        Objects.requireNonNull(other, "other must not be null");
+        if (Double.compare(passingGrade, other.passingGrade) != 0) {
+            throw new IllegalArgumentException("cannot combine statistics with different passing grades");
+        }
+        if (other.count == 0) {
+            return;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        // Fórmula de Chan et al. para unir dos acumuladores de Welford
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        mean += delta * other.count / total;
+        count = total;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        passed += other.passed;
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram[i] += other.histogram[i];
+        }
+    }
+
+    public double getPassingGrade() {
+        return passingGrade;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return (count == 0) ? 0.0 : sum / count;
+    }
+
+    /**
+     * Varianza poblacional (divide por la cantidad de notas).
+     */
+    public double getVariance() {
+        return (count == 0) ? 0.0 : m2 / count;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    public double getMin() {
+        return (count == 0) ? 0.0 : min;
+    }
+
+    public double getMax() {
+        return (count == 0) ? 0.0 : max;
+    }
+
+    public long getPassedCount() {
+        return passed;
+    }
+
+    /**
+     * Proporción de notas >= passingGrade (0.0 si aún no hay notas).
+     */
+    public double getPassRate() {
+        return (count == 0) ? 0.0 : (double) passed / count;
+    }
+
+    /**
+     * Percentil aproximado: interpola linealmente dentro del rango de 1 punto que lo contiene
+     * y se recorta a [min, max].
+     *
+     * @param percentile en [0, 100]
+     */
+    public double getPercentile(double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+        if (count == 0) {
+            return 0.0;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            long inBucket = histogram[i];
+            if (seen + inBucket >= rank) {
+                double estimate = i + (double) (rank - seen) / inBucket;
+                return Math.max(min, Math.min(max, estimate));
+            }
+            seen += inBucket;
+        }
+        return max;
+    }
+
+    /**
+     * Copia del histograma: la posición {@code i} cuenta las notas en [i, i + 1) (la última incluye 100).
+     */
+    public long[] getHistogram() {
+        return histogram.clone();
+    }
+
+    private static boolean isGrade(double v) {
+        return v >= 0.0 && v <= 100.0;
+    }
+
+    private static int bucketOf(double grade) {
+        return Math.min((int) grade, BUCKETS - 1);
+    }
+
+    @Override
+    public String toString() {
+        return "GradeStatistics{" +
+                "count=" + count +
+                ", mean=" + getMean() +
+                ", stdDev=" + getStandardDeviation() +
+                ", min=" + getMin() +
+                ", max=" + getMax() +
+                ", passRate=" + getPassRate() +
+                '}';
+    }
+}
@@ -0,0 +1,37 @@
+package com.utec.gradecalculator.service;
+
+/**
+ * Punto de extensión para instrumentar {@link GradeCalculator}.
+ *
+ * Todas las operaciones son no-op por defecto. Con {@link #NOOP} (el valor por defecto de
+ * GradeCalculator) el cálculo ni siquiera mide tiempos, por lo que no agrega costo.
+ * Las implementaciones deben ser thread-safe y baratas: se invocan en el camino crítico.
+ */
+public interface GradingMetrics {
+
+    /**
+     * Implementación vacía; GradeCalculator la detecta y omite toda la instrumentación.
+     */
+    GradingMetrics NOOP = new GradingMetrics() {
+    };
+
+    /**
+     * Se llama tras cada nota calculada con éxito.
+     *
+     * @param elapsedNanos duración del cálculo en nanosegundos
+     */
+    default void onGradeCalculated(long elapsedNanos) {
+    }
+
+    /**
+     * Se llama cuando la AttendancePolicy devuelve un valor inválido (antes de lanzar IllegalStateException).
+     */
+    default void onAttendancePolicyFailure() {
+    }
+
+    /**
+     * Se llama cuando la ExtraPointsPolicy devuelve un valor inválido (antes de lanzar IllegalStateException).
+     */
+    default void onExtraPointsPolicyFailure() {
+    }
+}
@@ -0,0 +1,23 @@
+package com.utec.gradecalculator.service;
+
+/**
+ * Aritmética usada por {@link GradeCalculator} para el promedio ponderado.
+ */
+public enum GradingMode {
+
+    /**
+     * Suma compensada (Kahan) en {@code double} sobre los valores tal como están en las evaluaciones.
+     * Es el modo por defecto.
+     */
+    FLOATING_POINT,
+
+    /**
+     * Notas y pesos se redondean a centésimas ({@link com.utec.gradecalculator.domain.Evaluation#toHundredths})
+     * y se suman en {@code long} (Student las actualiza al modificar sus evaluaciones, así que leerlas
+     * no escribe nada y es seguro desde varios hilos);
+     * el promedio se obtiene con una única división. Las sumas enteras son exactas, así que el resultado
+     * es bit a bit el mismo en cualquier orden de evaluaciones o de acumulación (p. ej. en paralelo).
+     * Para datos con más de dos decimales difiere de {@link #FLOATING_POINT} por ese redondeo.
+     */
+    FIXED_POINT
+}
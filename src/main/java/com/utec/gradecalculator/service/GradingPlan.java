@@ -0,0 +1,124 @@
+package com.utec.gradecalculator.service;
+
+import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.policy.AllYearsTeachersPolicy;
+import com.utec.gradecalculator.policy.AttendancePolicy;
+import com.utec.gradecalculator.policy.DefaultAttendancePolicy;
+import com.utec.gradecalculator.policy.ExtraPointsPolicy;
+
+import java.util.Objects;
+
+/**
+ * Combinación de políticas "compilada" una sola vez para calcular muchas notas.
+ *
+ * Las implementaciones conocidas se reducen a constantes ya validadas:
+ *  - {@link DefaultAttendancePolicy}: penalización según hasReachedMinClasses
+ *  - {@link AllYearsTeachersPolicy}: puntos extra según allYearsTeachers
+ *
+ * En ese caso el cálculo no invoca interfaces ni revalida valores por estudiante.
+ * Cualquier otra implementación se invoca normalmente y su resultado se valida en cada
+ * llamada (NaN, Infinity o negativos lanzan {@link IllegalStateException}).
+ *
+ * Inmutable y thread-safe (siempre que las políticas no reducidas también lo sean).
+ */
+public final class GradingPlan {
+
+    private final AttendancePolicy attendancePolicy;
+    private final ExtraPointsPolicy extraPointsPolicy;
+
+    private final boolean constantPenalty;
+    private final double penaltyIfReached;
+    private final double penaltyIfNotReached;
+
+    private final boolean constantExtraPoints;
+    private final double extraIfConsensus;
+    private final double extraIfNoConsensus;
+
+    private GradingPlan(AttendancePolicy attendancePolicy, ExtraPointsPolicy extraPointsPolicy) {
+        this.attendancePolicy = attendancePolicy;
+        this.extraPointsPolicy = extraPointsPolicy;
+
+        if (attendancePolicy instanceof DefaultAttendancePolicy) {
+            // El constructor de DefaultAttendancePolicy ya garantiza un valor finito y >= 0
+            constantPenalty = true;
+            penaltyIfReached = attendancePolicy.computePenalty(true, 0.0);
+            penaltyIfNotReached = attendancePolicy.computePenalty(false, 0.0);
+        } else {
+            constantPenalty = false;
+            penaltyIfReached = 0.0;
+            penaltyIfNotReached = 0.0;
+        }
+
+        if (extraPointsPolicy instanceof AllYearsTeachersPolicy) {
+            constantExtraPoints = true;
+            extraIfConsensus = extraPointsPolicy.computeExtraPoints(true, null);
+            extraIfNoConsensus = extraPointsPolicy.computeExtraPoints(false, null);
+        } else {
+            constantExtraPoints = false;
+            extraIfConsensus = 0.0;
+            extraIfNoConsensus = 0.0;
+        }
+    }
+
+    /**
+     * Compila la combinación de políticas.
+     *
+     * @param attendancePolicy  política de asistencia (no null)
+     * @param extraPointsPolicy política de puntos extra (no null)
+     */
+    public static GradingPlan compile(AttendancePolicy attendancePolicy, ExtraPointsPolicy extraPointsPolicy) {
+        Objects.requireNonNull(attendancePolicy, "attendancePolicy must not be null");
+        Objects.requireNonNull(extraPointsPolicy, "extraPointsPolicy must not be null");
+        return new GradingPlan(attendancePolicy, extraPointsPolicy);
+    }
+
+    /**
+     * Penalización validada (>= 0, finita).
+     */
+    double penalty(boolean hasReachedMinClasses, double weightedAverage) {
+        if (constantPenalty) {
+            return hasReachedMinClasses ? penaltyIfReached : penaltyIfNotReached;
+        }
+        double penalty = attendancePolicy.computePenalty(hasReachedMinClasses, weightedAverage);
+        if (Double.isNaN(penalty) || Double.isInfinite(penalty) || penalty < 0.0) {
+            throw new IllegalStateException("AttendancePolicy returned invalid penalty: " + penalty);
+        }
+        return penalty;
+    }
+
+    /**
+     * Puntos extra validados (>= 0, finitos).
+     */
+    double extraPoints(boolean allYearsTeachers, Student student) {
+        if (constantExtraPoints) {
+            return allYearsTeachers ? extraIfConsensus : extraIfNoConsensus;
+        }
+        double extra = extraPointsPolicy.computeExtraPoints(allYearsTeachers, student);
+        if (Double.isNaN(extra) || Double.isInfinite(extra) || extra < 0.0) {
+            throw new IllegalStateException("ExtraPointsPolicy returned invalid extra points: " + extra);
+        }
+        return extra;
+    }
+
+    public AttendancePolicy getAttendancePolicy() {
+        return attendancePolicy;
+    }
+
+    public ExtraPointsPolicy getExtraPointsPolicy() {
+        return extraPointsPolicy;
+    }
+
+    /**
+     * true si la penalización se redujo a constantes.
+     */
+    public boolean isConstantPenalty() {
+        return constantPenalty;
+    }
+
+    /**
+     * true si los puntos extra se redujeron a constantes.
+     */
+    public boolean isConstantExtraPoints() {
+        return constantExtraPoints;
+    }
+}
@@ -0,0 +1,250 @@
+package com.utec.gradecalculator.service;
+
+import com.utec.gradecalculator.domain.GradeResult;
+import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.policy.AttendancePolicy;
+import com.utec.gradecalculator.policy.ExtraPointsPolicy;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * Etapa reactiva ({@link Flow.Processor}) que califica un flujo de estudiantes y publica sus
+ * {@link GradeResult} con contrapresión de extremo a extremo.
+ *
+ * - Pide al publicador de origen a lo sumo {@code parallelism} estudiantes sin publicar; cada
+ *   resultado publicado libera un nuevo pedido ({@code request(1)}).
+ * - Los cálculos corren en paralelo en el {@link Executor} indicado.
+ * - En modo ordenado los resultados se publican en el orden de llegada de los estudiantes; en modo
+ *   no ordenado, a medida que terminan.
+ * - La publicación usa {@link SubmissionPublisher#submit}, que se bloquea si los suscriptores no
+ *   consumen: un consumidor lento frena así el cálculo y la lectura del origen, sin acumular la cohorte.
+ *
+ * Un error del origen se propaga después de publicar lo que ya estaba en curso; un error de
+ * cálculo (p. ej. una política que devuelve un valor inválido) cancela el origen y cierra el
+ * procesador con esa excepción. En ambos casos, como en {@link SubmissionPublisher#closeExceptionally},
+ * los resultados que aún estén en el buffer de un suscriptor pueden no entregarse.
+ */
+public final class GradingProcessor extends SubmissionPublisher<GradeResult>
+        implements Flow.Processor<Student, GradeResult> {
+
+    private final GradeCalculator calculator;
+    private final GradingPlan plan;
+    private final boolean allYearsTeachers;
+    private final int parallelism;
+    private final boolean ordered;
+    private final Executor gradingExecutor;
+
+    private final Object lock = new Object();
+    private Flow.Subscription subscription;
+    // Estudiantes recibidos y aún no publicados (<= parallelism)
+    private int inFlight;
+    private long nextSequence;
+    private long nextToPublish;
+    private final Map<Long, GradeResult> completedOutOfOrder = new HashMap<>();
+    private final ArrayDeque<GradeResult> ready = new ArrayDeque<>();
+    private boolean publishing;
+    private boolean upstreamDone;
+    private Throwable upstreamError;
+    private boolean terminated;
+
+    /**
+     * Calcula en {@link ForkJoinPool#commonPool()} con el tamaño de buffer por defecto.
+     */
+    public GradingProcessor(GradeCalculator calculator,
+                            AttendancePolicy attendancePolicy,
+                            ExtraPointsPolicy extraPointsPolicy,
+                            boolean allYearsTeachers,
+                            int parallelism,
+                            boolean ordered) {
+        this(calculator, attendancePolicy, extraPointsPolicy, allYearsTeachers, parallelism, ordered,
+                ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * @param parallelism          cálculos en curso como máximo (> 0)
+     * @param ordered              true para publicar en el orden de llegada
+     * @param executor             ejecutor de los cálculos y de la entrega a los suscriptores (no null)
+     * @param maxBufferCapacity    buffer por suscriptor de {@link SubmissionPublisher} (> 0)
+     */
+    public GradingProcessor(GradeCalculator calculator,
+                            AttendancePolicy attendancePolicy,
+                            ExtraPointsPolicy extraPointsPolicy,
+                            boolean allYearsTeachers,
+                            int parallelism,
+                            boolean ordered,
+                            Executor executor,
+                            int maxBufferCapacity) {
+        super(Objects.requireNonNull(executor, "executor must not be null"), maxBufferCapacity);
+        this.calculator = Objects.requireNonNull(calculator, "calculator must not be null");
+        this.plan = GradingPlan.compile(attendancePolicy, extraPointsPolicy);
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be > 0");
+        }
+        this.allYearsTeachers = allYearsTeachers;
+        this.parallelism = parallelism;
+        this.ordered = ordered;
+        this.gradingExecutor = executor;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription must not be null");
+        synchronized (lock) {
+            if (this.subscription != null) {
+                // Regla 2.5 de Reactive Streams: una sola suscripción activa
+                subscription.cancel();
+                return;
+            }
+            this.subscription = subscription;
+        }
+        subscription.request(parallelism);
+    }
+
+    @Override
+    public void onNext(Student student) {
+        Objects.requireNonNull(student, "student must not be null");
+        long sequence;
+        synchronized (lock) {
+            if (terminated) {
+                return;
+            }
+            sequence = nextSequence++;
+            inFlight++;
+        }
+        try {
+            gradingExecutor.execute(() -> grade(sequence, student));
+        } catch (RejectedExecutionException ex) {
+            // El cálculo nunca correrá: sin descontarlo inFlight no llegaría a 0 y el procesador no terminaría
+            synchronized (lock) {
+                inFlight--;
+            }
+            fail(ex);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable, "throwable must not be null");
+        synchronized (lock) {
+            upstreamError = throwable;
+            upstreamDone = true;
+        }
+        publishReady();
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (lock) {
+            upstreamDone = true;
+        }
+        publishReady();
+    }
+
+    private void grade(long sequence, Student student) {
+        GradeResult result;
+        try {
+            result = calculator.calculateFinalGrade(student, plan, allYearsTeachers);
+        } catch (Throwable ex) {
+            // Cualquier fallo (también un Error) debe cerrar el procesador: si no, inFlight nunca llega a 0
+            fail(ex);
+            return;
+        }
+        synchronized (lock) {
+            if (ordered) {
+                completedOutOfOrder.put(sequence, result);
+            } else {
+                ready.add(result);
+            }
+        }
+        publishReady();
+    }
+
+    // Un solo hilo publica a la vez; los demás solo dejan su resultado listo.
+    private void publishReady() {
+        synchronized (lock) {
+            if (publishing) {
+                return;
+            }
+            publishing = true;
+        }
+        while (true) {
+            GradeResult next;
+            Throwable error = null;
+            boolean finish = false;
+            synchronized (lock) {
+                next = terminated ? null : pollNext();
+                if (next == null) {
+                    publishing = false;
+                    if (!terminated && upstreamDone && inFlight == 0) {
+                        terminated = true;
+                        finish = true;
+                        error = upstreamError;
+                    }
+                } else {
+                    inFlight--;
+                }
+            }
+            if (next == null) {
+                if (finish) {
+                    if (error != null) {
+                        closeExceptionally(error);
+                    } else {
+                        close();
+                    }
+                }
+                return;
+            }
+            try {
+                submit(next);
+            } catch (IllegalStateException ex) {
+                // Cerrado por fail() mientras se publicaba
+                return;
+            }
+            subscription.request(1);
+        }
+    }
+
+    private GradeResult pollNext() {
+        if (!ordered) {
+            return ready.poll();
+        }
+        GradeResult next = completedOutOfOrder.remove(nextToPublish);
+        if (next != null) {
+            nextToPublish++;
+        }
+        return next;
+    }
+
+    private void fail(Throwable ex) {
+        Flow.Subscription s;
+        synchronized (lock) {
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+            completedOutOfOrder.clear();
+            ready.clear();
+            s = subscription;
+        }
+        if (s != null) {
+            s.cancel();
+        }
+        closeExceptionally(ex);
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+}
@@ -0,0 +1,184 @@
+package com.utec.gradecalculator.service;
+
+import com.utec.gradecalculator.domain.GradeResult;
+import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.policy.AttendancePolicy;
+import com.utec.gradecalculator.policy.ExtraPointsPolicy;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servicio asíncrono de cálculo de notas con concurrencia acotada y backpressure.
+ *
+ * - Como máximo {@code maxConcurrency} cálculos se ejecutan a la vez.
+ * - Como máximo {@code queueCapacity} solicitudes adicionales esperan en cola.
+ * - Con la cola llena, {@link #submit} bloquea al productor hasta que haya espacio
+ *   (backpressure) y {@link #trySubmit} devuelve un futuro fallido con
+ *   {@link RejectedExecutionException}.
+ *
+ * Usa hilos virtuales si la JVM los ofrece (ver {@link TaskExecutors}); si no, un pool fijo
+ * de {@code maxConcurrency} hilos.
+ */
+public final class GradingService implements AutoCloseable {
+
+    private final GradeCalculator calculator;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    // Solicitudes admitidas (en ejecución + en cola)
+    private final Semaphore admitted;
+    // Solo necesario con hilos virtuales: el pool fijo ya limita la concurrencia
+    private final Semaphore running;
+
+    public GradingService(GradeCalculator calculator, int maxConcurrency, int queueCapacity) {
+        this.calculator = Objects.requireNonNull(calculator, "calculator must not be null");
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be > 0");
+        }
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException("queueCapacity must be >= 0");
+        }
+        this.virtualThreads = TaskExecutors.virtualThreadsAvailable();
+        this.executor = TaskExecutors.newPerTaskOrFixedExecutor(maxConcurrency, "grading");
+        this.admitted = new Semaphore(maxConcurrency + queueCapacity);
+        this.running = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * Encola el cálculo, bloqueando mientras el servicio esté saturado.
+     *
+     * @throws InterruptedException si el hilo se interrumpe mientras espera espacio
+     */
+    public CompletableFuture<GradeResult> submit(Student student,
+                                                 AttendancePolicy attendancePolicy,
+                                                 ExtraPointsPolicy extraPointsPolicy,
+                                                 boolean allYearsTeachers) throws InterruptedException {
+        requireArguments(student, attendancePolicy, extraPointsPolicy);
+        admitted.acquire();
+        return dispatch(student, attendancePolicy, extraPointsPolicy, allYearsTeachers);
+    }
+
+    /**
+     * Encola el cálculo esperando como máximo {@code timeout} a que haya espacio.
+     * Si no lo hay, el futuro termina con {@link RejectedExecutionException}.
+     */
+    public CompletableFuture<GradeResult> submit(Student student,
+                                                 AttendancePolicy attendancePolicy,
+                                                 ExtraPointsPolicy extraPointsPolicy,
+                                                 boolean allYearsTeachers,
+                                                 long timeout,
+                                                 TimeUnit unit) throws InterruptedException {
+        requireArguments(student, attendancePolicy, extraPointsPolicy);
+        if (!admitted.tryAcquire(timeout, unit)) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("GradingService is saturated"));
+        }
+        return dispatch(student, attendancePolicy, extraPointsPolicy, allYearsTeachers);
+    }
+
+    /**
+     * Encola el cálculo sin bloquear. Si el servicio está saturado el futuro termina
+     * con {@link RejectedExecutionException}.
+     */
+    public CompletableFuture<GradeResult> trySubmit(Student student,
+                                                    AttendancePolicy attendancePolicy,
+                                                    ExtraPointsPolicy extraPointsPolicy,
+                                                    boolean allYearsTeachers) {
+        requireArguments(student, attendancePolicy, extraPointsPolicy);
+        if (!admitted.tryAcquire()) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("GradingService is saturated"));
+        }
+        return dispatch(student, attendancePolicy, extraPointsPolicy, allYearsTeachers);
+    }
+
+    private CompletableFuture<GradeResult> dispatch(Student student,
+                                                    AttendancePolicy attendancePolicy,
+                                                    ExtraPointsPolicy extraPointsPolicy,
+                                                    boolean allYearsTeachers) {
+        CompletableFuture<GradeResult> future = new CompletableFuture<>();
+        Runnable task = () -> {
+            GradeResult result = null;
+            Throwable failure = null;
+            try {
+                result = grade(student, attendancePolicy, extraPointsPolicy, allYearsTeachers);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                failure = ex;
+            } catch (Throwable ex) {
+                // También Error (p. ej. StackOverflowError en una política): el futuro siempre termina
+                failure = ex;
+            } finally {
+                // Se libera antes de completar: quien observa el futuro ya ve la capacidad disponible
+                admitted.release();
+            }
+            if (failure == null) {
+                future.complete(result);
+            } else {
+                future.completeExceptionally(failure);
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException ex) {
+            admitted.release();
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    private GradeResult grade(Student student,
+                              AttendancePolicy attendancePolicy,
+                              ExtraPointsPolicy extraPointsPolicy,
+                              boolean allYearsTeachers) throws InterruptedException {
+        if (!virtualThreads) {
+            return calculator.calculateFinalGrade(student, attendancePolicy, extraPointsPolicy, allYearsTeachers);
+        }
+        running.acquire();
+        try {
+            return calculator.calculateFinalGrade(student, attendancePolicy, extraPointsPolicy, allYearsTeachers);
+        } finally {
+            running.release();
+        }
+    }
+
+    private static void requireArguments(Student student,
+                                         AttendancePolicy attendancePolicy,
+                                         ExtraPointsPolicy extraPointsPolicy) {
+        Objects.requireNonNull(student, "student must not be null");
+        Objects.requireNonNull(attendancePolicy, "attendancePolicy must not be null");
+        Objects.requireNonNull(extraPointsPolicy, "extraPointsPolicy must not be null");
+    }
+
+    /**
+     * true si las tareas se ejecutan en hilos virtuales.
+     */
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Lugares libres (ejecución + cola) en este momento.
+     */
+    public int availableCapacity() {
+        return admitted.availablePermits();
+    }
+
+    /**
+     * Deja de aceptar solicitudes y espera a que terminen las pendientes.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.utec.gradecalculator.service;
+
+import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.GradeResult;
+import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.policy.AttendancePolicy;
+import com.utec.gradecalculator.policy.ExtraPointsPolicy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Recalculo incremental de una cohorte a partir de un log de cambios de evaluaciones.
+ *
+ * Al construirse calcula la nota de todos los estudiantes una vez. Luego cada
+ * {@link EvaluationChange} se aplica con {@link #append(EvaluationChange)} y solo marca como
+ * pendiente al estudiante afectado; {@link #drain(Consumer)} recalcula únicamente esos
+ * estudiantes y emite un {@link GradeDelta} por cada resultado que cambió. El costo es
+ * proporcional al tamaño del cambio, no al de la cohorte.
+ *
+ * Trabaja sobre copias de los estudiantes recibidos: los cambios deben llegar por el log.
+ * Es thread-safe; el consumidor de {@code drain} se invoca fuera del lock interno.
+ */
+public final class IncrementalRegrader {
+
+    private final GradeCalculator calculator;
+    private final GradingPlan plan;
+    private final boolean allYearsTeachers;
+
+    private final Map<String, Student> students = new HashMap<>();
+    private final Map<String, GradeResult> results = new HashMap<>();
+    private final Set<String> pending = new LinkedHashSet<>();
+
+    /**
+     * @param calculator        calculadora a usar (no null)
+     * @param attendancePolicy  política de asistencia (no null)
+     * @param extraPointsPolicy política de puntos extra (no null)
+     * @param cohort            estudiantes iniciales (no null, sin ids repetidos)
+     * @param allYearsTeachers  valor boolean que representa el consenso colectivo
+     */
+    public IncrementalRegrader(GradeCalculator calculator,
+                               AttendancePolicy attendancePolicy,
+                               ExtraPointsPolicy extraPointsPolicy,
+                               Collection<Student> cohort,
+                               boolean allYearsTeachers) {
+        this.calculator = Objects.requireNonNull(calculator, "calculator must not be null");
+        this.plan = GradingPlan.compile(attendancePolicy, extraPointsPolicy);
+        this.allYearsTeachers = allYearsTeachers;
+        Objects.requireNonNull(cohort, "cohort must not be null");
+
+        for (Student s : cohort) {
+            Objects.requireNonNull(s, "cohort must not contain null elements");
+            Student copy = copyOf(s);
+            if (students.putIfAbsent(copy.getId(), copy) != null) {
+                throw new IllegalArgumentException("Duplicate student id: " + copy.getId());
+            }
+            results.put(copy.getId(), calculator.calculateFinalGrade(copy, plan, allYearsTeachers));
+        }
+    }
+
+    /**
+     * Aplica el cambio y marca al estudiante para recálculo. Si el cambio no es válido
+     * (índice inexistente, más de MAX_EVALUATIONS) se lanza la excepción de Student y
+     * el estado no se modifica.
+     *
+     * @throws IllegalArgumentException si el estudiante no pertenece a la cohorte
+     */
+    public synchronized void append(EvaluationChange change) {
+        Objects.requireNonNull(change, "change must not be null");
+        Student student = students.get(change.getStudentId());
+        if (student == null) {
+            throw new IllegalArgumentException("Unknown student: " + change.getStudentId());
+        }
+        change.applyTo(student);
+        pending.add(student.getId());
+    }
+
+    /**
+     * Cantidad de estudiantes con cambios aún no recalculados.
+     */
+    public synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Recalcula los estudiantes pendientes y emite, en orden de primer cambio, un delta por
+     * cada resultado distinto del anterior. Si algún cálculo lanza una excepción no se confirma
+     * ningún resultado ni se emite ningún delta, y todos los estudiantes siguen pendientes.
+     *
+     * @return cantidad de deltas emitidos
+     */
+    public int drain(Consumer<? super GradeDelta> sink) {
+        Objects.requireNonNull(sink, "sink must not be null");
+        List<GradeDelta> deltas = new ArrayList<>();
+        synchronized (this) {
+            // Primero se calcula todo: si un cálculo falla no se confirma nada y los pendientes se conservan
+            List<GradeResult> current = new ArrayList<>(pending.size());
+            for (String id : pending) {
+                current.add(calculator.calculateFinalGrade(students.get(id), plan, allYearsTeachers));
+            }
+            int i = 0;
+            for (String id : pending) {
+                GradeResult result = current.get(i++);
+                GradeResult previous = results.put(id, result);
+                if (!result.equals(previous)) {
+                    deltas.add(new GradeDelta(id, previous, result));
+                }
+            }
+            pending.clear();
+        }
+        deltas.forEach(sink);
+        return deltas.size();
+    }
+
+    /**
+     * Último resultado calculado (no incluye cambios pendientes).
+     *
+     * @throws IllegalArgumentException si el estudiante no pertenece a la cohorte
+     */
+    public synchronized GradeResult getResult(String studentId) {
+        Objects.requireNonNull(studentId, "studentId must not be null");
+        GradeResult result = results.get(studentId.trim());
+        if (result == null) {
+            throw new IllegalArgumentException("Unknown student: " + studentId);
+        }
+        return result;
+    }
+
+    public synchronized int size() {
+        return students.size();
+    }
+
+    private static Student copyOf(Student s) {
+        Student copy = new Student(s.getId());
+        copy.setHasReachedMinClasses(s.hasReachedMinClasses());
+        for (Evaluation e : s.getEvaluations()) {
+            copy.addEvaluation(e);
+        }
+        return copy;
+    }
+}
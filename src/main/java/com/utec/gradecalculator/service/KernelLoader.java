@@ -0,0 +1,27 @@
+package com.utec.gradecalculator.service;
+
+/**
+ * Carga perezosa del kernel vectorial: si no se compiló (perfil {@code vector}) o el módulo
+ * {@code jdk.incubator.vector} no está disponible, se usa el kernel escalar.
+ */
+final class KernelLoader {
+
+    static final WeightedAverageKernel VECTORIZED = load();
+
+    private KernelLoader() {
+    }
+
+    private static WeightedAverageKernel load() {
+        try {
+            WeightedAverageKernel kernel = (WeightedAverageKernel) Class
+                    .forName("com.utec.gradecalculator.service.VectorWeightedAverageKernel")
+                    .getDeclaredConstructor()
+                    .newInstance();
+            // Prueba mínima: fuerza el enlace de las clases de la Vector API
+            kernel.weightedAverages(new double[]{50.0}, new double[]{1.0}, new int[]{0, 1}, 1, new double[1]);
+            return kernel;
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            return ScalarWeightedAverageKernel.INSTANCE;
+        }
+    }
+}
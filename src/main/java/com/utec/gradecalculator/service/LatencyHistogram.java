@@ -0,0 +1,101 @@
+package com.utec.gradecalculator.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma concurrente de latencias con buckets logarítmico-lineales (al estilo HdrHistogram).
+ *
+ * Cada potencia de dos se divide en {@value #SUB_BUCKETS} sub-buckets, así el error relativo
+ * de los percentiles es como máximo 1/{@value #SUB_BUCKETS} (~6%). Registrar un valor es
+ * un par de operaciones atómicas, sin locks ni asignación de memoria.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Valores < SUB_BUCKETS tienen bucket propio; luego 16 sub-buckets por cada bit adicional
+    private static final int BUCKETS = SUB_BUCKETS + (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalSum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Registra un valor (los negativos se cuentan como 0).
+     */
+    public void record(long value) {
+        long v = Math.max(0L, value);
+        counts.incrementAndGet(bucketOf(v));
+        totalCount.increment();
+        totalSum.add(v);
+        if (v > max.get()) {
+            max.accumulateAndGet(v, Math::max);
+        }
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long count = totalCount.sum();
+        return (count == 0) ? 0.0 : (double) totalSum.sum() / count;
+    }
+
+    /**
+     * Valor aproximado (límite superior del bucket) bajo el cual está el {@code percentile}% de las muestras.
+     *
+     * @param percentile en [0, 100]
+     * @return 0 si no hay muestras
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0 || Double.isNaN(percentile)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0L;
+        }
+        long target = Math.max(1L, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return Math.min(upperBoundOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    static int bucketOf(long v) {
+        if (v < SUB_BUCKETS) {
+            return (int) v;
+        }
+        int exponent = (Long.SIZE - 1 - Long.numberOfLeadingZeros(v)) - SUB_BUCKET_BITS; // >= 0
+        int subBucket = (int) (v >>> exponent) - SUB_BUCKETS;                            // 0..15
+        return SUB_BUCKETS + exponent * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        long lower = (long) (SUB_BUCKETS + subBucket) << exponent;
+        long width = 1L << exponent;
+        return (lower + width - 1 < 0) ? Long.MAX_VALUE : lower + width - 1;
+    }
+}
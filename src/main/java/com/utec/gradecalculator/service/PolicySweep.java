@@ -0,0 +1,200 @@
+package com.utec.gradecalculator.service;
+
+import com.utec.gradecalculator.domain.CohortColumns;
+import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.domain.WeightedSum;
+import com.utec.gradecalculator.policy.AllYearsTeachersPolicy;
+import com.utec.gradecalculator.policy.DefaultAttendancePolicy;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Simulación "qué pasaría si": calcula la distribución de notas finales de una cohorte para
+ * cada combinación de penalización por asistencia ({@link DefaultAttendancePolicy}) y puntos
+ * extra por consenso ({@link AllYearsTeachersPolicy}) de una grilla.
+ *
+ * El promedio ponderado de cada estudiante no depende de las políticas, así que se calcula una
+ * sola vez por cohorte; cada combinación solo aplica penalización, extra y el recorte a [0, 100],
+ * y acumula la distribución en un {@link GradeStatistics}.
+ * Las combinaciones se evalúan en paralelo (fork-join) y las notas obtenidas son exactamente las
+ * que daría {@link GradeCalculator} con esas políticas.
+ *
+ * Inmutable y thread-safe.
+ */
+public final class PolicySweep {
+
+    /**
+     * Cantidad de rangos del histograma: [0, 10), [10, 20), ..., [90, 100] (100 cae en el último).
+     */
+    public static final int HISTOGRAM_BUCKETS = 10;
+
+    private final double[] penalties;
+    private final double[] extraPoints;
+    private final double passingGrade;
+    private final GradingPlan[] plans;
+
+    /**
+     * @param penalties   penalizaciones a probar (no null, no vacío; cada valor finito y >= 0)
+     * @param extraPoints puntos extra a probar (no null, no vacío; cada valor finito y >= 0)
+     * @param passingGrade nota mínima aprobatoria para la tasa de aprobación, en [0, 100]
+     * @throws IllegalArgumentException si algún valor no es aceptado por la política correspondiente
+     */
+    public PolicySweep(double[] penalties, double[] extraPoints, double passingGrade) {
+        Objects.requireNonNull(penalties, "penalties must not be null");
+        Objects.requireNonNull(extraPoints, "extraPoints must not be null");
+        if (penalties.length == 0 || extraPoints.length == 0) {
+            throw new IllegalArgumentException("penalties and extraPoints must not be empty");
+        }
+        if (!(passingGrade >= 0.0 && passingGrade <= 100.0)) {
+            throw new IllegalArgumentException("passingGrade must be a finite number between 0 and 100");
+        }
+        this.penalties = penalties.clone();
+        this.extraPoints = extraPoints.clone();
+        this.passingGrade = passingGrade;
+
+        // Compilar todas las combinaciones aquí valida la grilla antes de cualquier cálculo
+        this.plans = new GradingPlan[this.penalties.length * this.extraPoints.length];
+        for (int p = 0; p < this.penalties.length; p++) {
+            DefaultAttendancePolicy attendance = new DefaultAttendancePolicy(this.penalties[p]);
+            for (int e = 0; e < this.extraPoints.length; e++) {
+                plans[p * this.extraPoints.length + e] =
+                        GradingPlan.compile(attendance, new AllYearsTeachersPolicy(this.extraPoints[e]));
+            }
+        }
+    }
+
+    /**
+     * Evalúa la grilla sobre una cohorte columnar.
+     *
+     * @return un resultado por combinación, ordenados por penalización y luego por puntos extra
+     */
+    public List<Outcome> run(CohortColumns cohort, boolean allYearsTeachers) {
+        Objects.requireNonNull(cohort, "cohort must not be null");
+        int n = cohort.size();
+        double[] weightedAverages = new double[n];
+        boolean[] reached = new boolean[n];
+        WeightedSum sum = new WeightedSum();
+        for (int i = 0; i < n; i++) {
+            GradeCalculator.sumColumns(cohort, i, sum);
+            weightedAverages[i] = sum.getWeightedAverage();
+            reached[i] = cohort.hasReachedMinClasses(i);
+        }
+        return sweep(weightedAverages, reached, allYearsTeachers);
+    }
+
+    /**
+     * Evalúa la grilla sobre una colección de estudiantes (en orden de iteración).
+     *
+     * @return un resultado por combinación, ordenados por penalización y luego por puntos extra
+     */
+    public List<Outcome> run(Collection<Student> students, boolean allYearsTeachers) {
+        Objects.requireNonNull(students, "students must not be null");
+        Student[] input = students.toArray(new Student[0]);
+        double[] weightedAverages = new double[input.length];
+        boolean[] reached = new boolean[input.length];
+        for (int i = 0; i < input.length; i++) {
+            Objects.requireNonNull(input[i], "students must not contain null elements");
+            weightedAverages[i] = input[i].getWeightedAverage();
+            reached[i] = input[i].hasReachedMinClasses();
+        }
+        return sweep(weightedAverages, reached, allYearsTeachers);
+    }
+
+    private List<Outcome> sweep(double[] weightedAverages, boolean[] reached, boolean allYearsTeachers) {
+        Outcome[] outcomes = new Outcome[plans.length];
+        Arrays.parallelSetAll(outcomes, k -> evaluate(k, weightedAverages, reached, allYearsTeachers));
+        return List.of(outcomes);
+    }
+
+    private Outcome evaluate(int k, double[] weightedAverages, boolean[] reached, boolean allYearsTeachers) {
+        GradingPlan plan = plans[k];
+        // Con las políticas de la grilla el extra no depende del estudiante
+        double extra = plan.extraPoints(allYearsTeachers, null);
+
+        GradeStatistics statistics = new GradeStatistics(passingGrade);
+        for (int i = 0; i < weightedAverages.length; i++) {
+            double weightedAverage = weightedAverages[i];
+            statistics.accept(GradeCalculator.finalGrade(weightedAverage,
+                    plan.penalty(reached[i], weightedAverage), extra));
+        }
+        return new Outcome(penalties[k / extraPoints.length], extraPoints[k % extraPoints.length], statistics);
+    }
+
+    /**
+     * Distribución de notas finales para una combinación de la grilla.
+     * Con una cohorte vacía, promedio, mínimo y máximo son 0.0.
+     */
+    public static final class Outcome {
+        private final double penalty;
+        private final double extraPoints;
+        private final GradeStatistics statistics;
+
+        private Outcome(double penalty, double extraPoints, GradeStatistics statistics) {
+            this.penalty = penalty;
+            this.extraPoints = extraPoints;
+            this.statistics = statistics;
+        }
+
+        public double getPenalty() {
+            return penalty;
+        }
+
+        public double getExtraPoints() {
+            return extraPoints;
+        }
+
+        public int getCount() {
+            return (int) statistics.getCount();
+        }
+
+        public double getMean() {
+            return statistics.getMean();
+        }
+
+        public double getMin() {
+            return statistics.getMin();
+        }
+
+        public double getMax() {
+            return statistics.getMax();
+        }
+
+        public double getPassRate() {
+            return statistics.getPassRate();
+        }
+
+        /**
+         * Histograma de {@link #HISTOGRAM_BUCKETS} rangos de 10 puntos.
+         */
+        public long[] getHistogram() {
+            long[] fine = statistics.getHistogram();
+            int width = GradeStatistics.BUCKETS / HISTOGRAM_BUCKETS;
+            long[] histogram = new long[HISTOGRAM_BUCKETS];
+            for (int i = 0; i < fine.length; i++) {
+                histogram[i / width] += fine[i];
+            }
+            return histogram;
+        }
+
+        /**
+         * Estadísticas completas (varianza, percentiles, etc.). Devuelve una copia: modificarla
+         * no altera este resultado.
+         */
+        public GradeStatistics getStatistics() {
+            return statistics.copy();
+        }
+
+        @Override
+        public String toString() {
+            return "Outcome{" +
+                    "penalty=" + penalty +
+                    ", extraPoints=" + extraPoints +
+                    ", statistics=" + statistics +
+                    ", histogram=" + Arrays.toString(getHistogram()) +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.utec.gradecalculator.service;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementación de {@link GradingMetrics} que acumula contadores y un histograma de latencia
+ * en memoria. Thread-safe; pensada para exponerse como texto (ver {@link #dump()}).
+ */
+public final class RecordingGradingMetrics implements GradingMetrics {
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder attendancePolicyFailures = new LongAdder();
+    private final LongAdder extraPointsPolicyFailures = new LongAdder();
+
+    @Override
+    public void onGradeCalculated(long elapsedNanos) {
+        latency.record(elapsedNanos);
+    }
+
+    @Override
+    public void onAttendancePolicyFailure() {
+        attendancePolicyFailures.increment();
+    }
+
+    @Override
+    public void onExtraPointsPolicyFailure() {
+        extraPointsPolicyFailures.increment();
+    }
+
+    public long getGradesCalculated() {
+        return latency.getCount();
+    }
+
+    public long getAttendancePolicyFailures() {
+        return attendancePolicyFailures.sum();
+    }
+
+    public long getExtraPointsPolicyFailures() {
+        return extraPointsPolicyFailures.sum();
+    }
+
+    /**
+     * Histograma de duración de cada cálculo, en nanosegundos.
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * Volcado de texto, una métrica por línea ({@code nombre=valor}).
+     */
+    public String dump() {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("grades.calculated=").append(latency.getCount()).append('\n');
+        sb.append("grades.latency.mean_ns=").append(Math.round(latency.getMean())).append('\n');
+        sb.append("grades.latency.p50_ns=").append(latency.getValueAtPercentile(50.0)).append('\n');
+        sb.append("grades.latency.p90_ns=").append(latency.getValueAtPercentile(90.0)).append('\n');
+        sb.append("grades.latency.p99_ns=").append(latency.getValueAtPercentile(99.0)).append('\n');
+        sb.append("grades.latency.p999_ns=").append(latency.getValueAtPercentile(99.9)).append('\n');
+        sb.append("grades.latency.max_ns=").append(latency.getMax()).append('\n');
+        sb.append("policy.attendance.failures=").append(attendancePolicyFailures.sum()).append('\n');
+        sb.append("policy.extraPoints.failures=").append(extraPointsPolicyFailures.sum()).append('\n');
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return dump();
+    }
+}
@@ -0,0 +1,48 @@
+package com.utec.gradecalculator.service;
+
+import com.utec.gradecalculator.domain.WeightedSum;
+
+import java.util.Objects;
+
+/**
+ * Kernel escalar con la suma compensada de {@link WeightedSum}, la misma que usa GradeCalculator.
+ */
+final class ScalarWeightedAverageKernel implements WeightedAverageKernel {
+
+    static final ScalarWeightedAverageKernel INSTANCE = new ScalarWeightedAverageKernel();
+
+    private ScalarWeightedAverageKernel() {
+    }
+
+    @Override
+    public void weightedAverages(double[] scores, double[] weights, int[] offsets, int students, double[] out) {
+        checkArguments(scores, weights, offsets, students, out);
+        WeightedSum sum = new WeightedSum();
+        for (int i = 0; i < students; i++) {
+            sum.reset();
+            int end = offsets[i + 1];
+            for (int j = offsets[i]; j < end; j++) {
+                sum.add(scores[j], weights[j]);
+            }
+            out[i] = sum.getWeightedAverage();
+        }
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    static void checkArguments(double[] scores, double[] weights, int[] offsets, int students, double[] out) {
+        Objects.requireNonNull(scores, "scores must not be null");
+        Objects.requireNonNull(weights, "weights must not be null");
+        Objects.requireNonNull(offsets, "offsets must not be null");
+        Objects.requireNonNull(out, "out must not be null");
+        if (students < 0 || offsets.length < students + 1 || out.length < students) {
+            throw new IllegalArgumentException("offsets/out too short for " + students + " students");
+        }
+        if (students > 0 && (offsets[0] < 0 || offsets[students] > Math.min(scores.length, weights.length))) {
+            throw new IllegalArgumentException("offsets out of range of scores/weights");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.utec.gradecalculator.service;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fábrica de ejecutores para los servicios concurrentes.
+ *
+ * El proyecto compila con Java 17, pero si la JVM en ejecución ofrece hilos virtuales
+ * (Java 21+) se usan mediante reflexión: un hilo virtual por tarea. En otro caso se usa
+ * un pool fijo de hilos daemon.
+ */
+public final class TaskExecutors {
+
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadFactoryMethod();
+
+    private TaskExecutors() {
+    }
+
+    /**
+     * true si la JVM actual puede crear ejecutores de hilos virtuales.
+     */
+    public static boolean virtualThreadsAvailable() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Ejecutor de hilos virtuales (uno por tarea) si están disponibles; si no, pool fijo.
+     *
+     * @param fallbackThreads tamaño del pool fijo cuando no hay hilos virtuales (> 0)
+     * @param namePrefix      prefijo del nombre de los hilos del pool fijo
+     */
+    public static ExecutorService newPerTaskOrFixedExecutor(int fallbackThreads, String namePrefix) {
+        if (fallbackThreads <= 0) {
+            throw new IllegalArgumentException("fallbackThreads must be > 0");
+        }
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+            } catch (IllegalAccessException | InvocationTargetException ex) {
+                // p. ej. JDK 19/20 sin --enable-preview: se continúa con el pool fijo
+            }
+        }
+        return Executors.newFixedThreadPool(fallbackThreads, daemonThreads(namePrefix));
+    }
+
+    private static ThreadFactory daemonThreads(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread t = new Thread(runnable, namePrefix + "-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    private static Method findVirtualThreadFactoryMethod() {
+        try {
+            Method m = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            // Verifica que realmente funcione (en JDK 19/20 es preview y lanza excepción)
+            ((ExecutorService) m.invoke(null)).shutdown();
+            return m;
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
+            return null;
+        }
+    }
+}
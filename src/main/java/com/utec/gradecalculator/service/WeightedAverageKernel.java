@@ -0,0 +1,62 @@
+package com.utec.gradecalculator.service;
+
+import com.utec.gradecalculator.domain.CohortTable;
+
+import java.util.Objects;
+
+/**
+ * Kernel que calcula el promedio ponderado {@code sum(score*weight) / sum(weight)} de muchos
+ * estudiantes a la vez sobre columnas planas (ver {@link CohortTable}).
+ *
+ * - {@link #scalar()}: misma suma compensada que {@link GradeCalculator} (WeightedSum); mismos resultados.
+ * - {@link #vectorized()}: usa la Vector API ({@code jdk.incubator.vector}) si el kernel se compiló
+ *   con el perfil Maven {@code vector} y la JVM se inició con {@code --add-modules jdk.incubator.vector};
+ *   si no, devuelve el kernel escalar.
+ *
+ * El kernel vectorial suma en otro orden y sin compensación: para promedios en [0, 100] y pesos
+ * en [0, 100] difiere del escalar como máximo en {@link #VECTOR_TOLERANCE}.
+ * Igual que en GradeCalculator, si la suma de pesos es 0 el promedio es 0.0.
+ */
+public interface WeightedAverageKernel {
+
+    /**
+     * Diferencia absoluta máxima documentada entre el kernel vectorial y el escalar.
+     */
+    double VECTOR_TOLERANCE = 1e-9;
+
+    /**
+     * Calcula {@code out[i]} para cada estudiante {@code i} en {@code [0, students)}, cuyas
+     * evaluaciones ocupan {@code [offsets[i], offsets[i + 1])} de {@code scores} y {@code weights}.
+     */
+    void weightedAverages(double[] scores, double[] weights, int[] offsets, int students, double[] out);
+
+    /**
+     * Nombre descriptivo (para logs y benchmarks).
+     */
+    String name();
+
+    /**
+     * Aplica el kernel a todas las filas de la tabla (sobre sus columnas, sin copiarlas).
+     *
+     * @return arreglo nuevo con un promedio por fila
+     */
+    default double[] weightedAverages(CohortTable cohort) {
+        Objects.requireNonNull(cohort, "cohort must not be null");
+        return cohort.applyKernel(this::weightedAverages);
+    }
+
+    static WeightedAverageKernel scalar() {
+        return ScalarWeightedAverageKernel.INSTANCE;
+    }
+
+    static WeightedAverageKernel vectorized() {
+        return KernelLoader.VECTORIZED;
+    }
+
+    /**
+     * true si {@link #vectorized()} usa realmente la Vector API.
+     */
+    static boolean vectorApiAvailable() {
+        return KernelLoader.VECTORIZED != ScalarWeightedAverageKernel.INSTANCE;
+    }
+}
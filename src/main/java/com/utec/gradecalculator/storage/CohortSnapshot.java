@@ -0,0 +1,285 @@
+package com.utec.gradecalculator.storage;
+
+import com.utec.gradecalculator.domain.CohortColumns;
+import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.Student;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Snapshot binario de una cohorte, leído mediante un {@link MappedByteBuffer}.
+ *
+ * Permite recargar una cohorte completa sin reconstruir objetos Student/Evaluation: abrir el archivo
+ * lo mapea y solo comprueba el encabezado y que las secciones y los offsets extremos sean coherentes
+ * (O(1), sin tocar las páginas de datos); después {@link com.utec.gradecalculator.service.GradeCalculator}
+ * califica directamente sobre él (implementa {@link CohortColumns}).
+ *
+ * {@link #open(Path, boolean)} con {@code verify = true} además recorre el archivo completo (offsets
+ * crecientes, como mucho MAX_EVALUATIONS por estudiante, notas y pesos válidos, ids no vacíos). Sin
+ * esa verificación el contenido se da por bueno (archivos escritos por {@link #write}): un archivo
+ * dañado puede fallar recién al calificar o dar notas incorrectas.
+ *
+ * Formato (big-endian, versión {@value #VERSION}):
+ * <pre>
+ *  header    magic "GRDS" | version | studentCount | evaluationCount    (4 x int)
+ *  offsets   int[studentCount + 1]     evaluaciones del estudiante i: [offsets[i], offsets[i+1])
+ *  flags     byte[studentCount]        1 si alcanzó la asistencia mínima
+ *  padding   hasta múltiplo de 8
+ *  scores    double[evaluationCount]
+ *  weights   double[evaluationCount]
+ *  idIndex   int[studentCount + 1]     posición de cada id dentro de idData
+ *  idData    UTF-8
+ * </pre>
+ * El archivo completo debe caber en un único mapeo (menos de 2 GB).
+ */
+public final class CohortSnapshot implements CohortColumns {
+
+    static final int MAGIC = 0x47524453; // "GRDS"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 4 * Integer.BYTES;
+
+    private final int studentCount;
+    private final int evaluationCount;
+    private final IntBuffer offsets;
+    private final ByteBuffer flags;
+    private final DoubleBuffer scores;
+    private final DoubleBuffer weights;
+    private final IntBuffer idIndex;
+    private final ByteBuffer idData;
+
+    private CohortSnapshot(ByteBuffer buffer, Path source, boolean verify) throws IOException {
+        if (buffer.capacity() < HEADER_BYTES) {
+            throw corrupt(source, "file too short");
+        }
+        if (buffer.getInt(0) != MAGIC) {
+            throw corrupt(source, "bad magic number");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw corrupt(source, "unsupported version " + version);
+        }
+        studentCount = buffer.getInt(8);
+        evaluationCount = buffer.getInt(12);
+        if (studentCount < 0 || evaluationCount < 0) {
+            throw corrupt(source, "negative counts");
+        }
+
+        long offsetsAt = HEADER_BYTES;
+        long flagsAt = offsetsAt + (long) (studentCount + 1) * Integer.BYTES;
+        long scoresAt = align8(flagsAt + studentCount);
+        long weightsAt = scoresAt + (long) evaluationCount * Double.BYTES;
+        long idIndexAt = weightsAt + (long) evaluationCount * Double.BYTES;
+        long idDataAt = idIndexAt + (long) (studentCount + 1) * Integer.BYTES;
+        if (idDataAt > buffer.capacity()) {
+            throw corrupt(source, "truncated sections");
+        }
+
+        offsets = slice(buffer, offsetsAt, flagsAt).asIntBuffer();
+        flags = slice(buffer, flagsAt, flagsAt + studentCount);
+        scores = slice(buffer, scoresAt, weightsAt).asDoubleBuffer();
+        weights = slice(buffer, weightsAt, idIndexAt).asDoubleBuffer();
+        idIndex = slice(buffer, idIndexAt, idDataAt).asIntBuffer();
+        idData = slice(buffer, idDataAt, buffer.capacity());
+
+        if (offsets.get(0) != 0 || offsets.get(studentCount) != evaluationCount
+                || idIndex.get(0) != 0 || idIndex.get(studentCount) != idData.capacity()) {
+            throw corrupt(source, "inconsistent offsets");
+        }
+        if (verify) {
+            validateRows(source);
+            validateEvaluations(source);
+        }
+    }
+
+    // Un archivo dañado o ajeno no debe aparecer recién al calificar (o peor, calificarse en silencio)
+    private void validateRows(Path source) throws IOException {
+        for (int i = 0; i < studentCount; i++) {
+            int count = offsets.get(i + 1) - offsets.get(i);
+            if (count < 0 || count > Student.MAX_EVALUATIONS) {
+                throw corrupt(source, "row " + i + " has an invalid number of evaluations: " + count);
+            }
+            // Los ids se normalizan como en Student: nunca vacíos
+            if (idIndex.get(i + 1) <= idIndex.get(i)) {
+                throw corrupt(source, "row " + i + " has an invalid id range");
+            }
+            byte flag = flags.get(i);
+            if (flag != 0 && flag != 1) {
+                throw corrupt(source, "row " + i + " has an invalid attendance flag: " + flag);
+            }
+        }
+    }
+
+    private void validateEvaluations(Path source) throws IOException {
+        for (int j = 0; j < evaluationCount; j++) {
+            if (!Evaluation.isValidScore(scores.get(j)) || !Evaluation.isValidWeight(weights.get(j))) {
+                throw corrupt(source, "invalid evaluation at index " + j);
+            }
+        }
+    }
+
+    /**
+     * Escribe la cohorte en {@code target} (se sobrescribe si existe).
+     */
+    public static void write(CohortColumns cohort, Path target) throws IOException {
+        Objects.requireNonNull(cohort, "cohort must not be null");
+        Objects.requireNonNull(target, "target must not be null");
+
+        int n = cohort.size();
+        int[] idLengths = new int[n];
+        long idBytes = 0;
+        for (int i = 0; i < n; i++) {
+            idLengths[i] = cohort.getId(i).getBytes(StandardCharsets.UTF_8).length;
+            idBytes += idLengths[i];
+        }
+        if (idBytes > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot ids exceed 2 GB");
+        }
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(target), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(n);
+            out.writeInt(cohort.evaluationCount());
+
+            // Las filas de la cohorte de origen pueden no ser contiguas: el snapshot las compacta
+            int evaluationOffset = 0;
+            for (int i = 0; i < n; i++) {
+                out.writeInt(evaluationOffset);
+                evaluationOffset += cohort.evaluationEnd(i) - cohort.evaluationStart(i);
+            }
+            out.writeInt(evaluationOffset);
+
+            for (int i = 0; i < n; i++) {
+                out.writeByte(cohort.hasReachedMinClasses(i) ? 1 : 0);
+            }
+            long written = HEADER_BYTES + (long) (n + 1) * Integer.BYTES + n;
+            for (long pad = align8(written) - written; pad > 0; pad--) {
+                out.writeByte(0);
+            }
+
+            for (int i = 0; i < n; i++) {
+                for (int j = cohort.evaluationStart(i), end = cohort.evaluationEnd(i); j < end; j++) {
+                    out.writeDouble(cohort.getScore(j));
+                }
+            }
+            for (int i = 0; i < n; i++) {
+                for (int j = cohort.evaluationStart(i), end = cohort.evaluationEnd(i); j < end; j++) {
+                    out.writeDouble(cohort.getWeight(j));
+                }
+            }
+
+            int position = 0;
+            for (int i = 0; i < n; i++) {
+                out.writeInt(position);
+                position += idLengths[i];
+            }
+            out.writeInt(position);
+            for (int i = 0; i < n; i++) {
+                out.write(cohort.getId(i).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    /**
+     * Mapea un snapshot en memoria (solo lectura) sin verificar su contenido: equivale a
+     * {@code open(source, false)}.
+     *
+     * @throws IOException si no se puede leer o el encabezado/las secciones no son válidos
+     */
+    public static CohortSnapshot open(Path source) throws IOException {
+        return open(source, false);
+    }
+
+    /**
+     * Mapea un snapshot en memoria (solo lectura). El mapeo sigue siendo válido aunque
+     * no se conserve ninguna otra referencia al archivo.
+     *
+     * @param verify true para recorrer el archivo completo y validar cada fila y evaluación
+     *               (para archivos de origen desconocido; lee todas las páginas)
+     * @throws IOException si no se puede leer o no tiene un formato válido
+     */
+    public static CohortSnapshot open(Path source, boolean verify) throws IOException {
+        Objects.requireNonNull(source, "source must not be null");
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw corrupt(source, "file larger than 2 GB");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return new CohortSnapshot(buffer, source, verify);
+        }
+    }
+
+    @Override
+    public int size() {
+        return studentCount;
+    }
+
+    @Override
+    public int evaluationCount() {
+        return evaluationCount;
+    }
+
+    @Override
+    public String getId(int index) {
+        Objects.checkIndex(index, studentCount);
+        int from = idIndex.get(index);
+        int to = idIndex.get(index + 1);
+        byte[] bytes = new byte[to - from];
+        idData.get(from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean hasReachedMinClasses(int index) {
+        Objects.checkIndex(index, studentCount);
+        return flags.get(index) != 0;
+    }
+
+    @Override
+    public int evaluationStart(int index) {
+        Objects.checkIndex(index, studentCount);
+        return offsets.get(index);
+    }
+
+    @Override
+    public int evaluationEnd(int index) {
+        Objects.checkIndex(index, studentCount);
+        return offsets.get(index + 1);
+    }
+
+    @Override
+    public double getScore(int evaluationIndex) {
+        return scores.get(evaluationIndex);
+    }
+
+    @Override
+    public double getWeight(int evaluationIndex) {
+        return weights.get(evaluationIndex);
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, long from, long to) {
+        return buffer.slice((int) from, (int) (to - from));
+    }
+
+    private static long align8(long position) {
+        return (position + 7) & ~7L;
+    }
+
+    private static IOException corrupt(Path source, String reason) {
+        return new IOException("Invalid cohort snapshot " + source + ": " + reason);
+    }
+}
@@ -0,0 +1,235 @@
+package com.utec.gradecalculator.storage;
+
+import com.utec.gradecalculator.domain.CohortColumns;
+import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.domain.StudentIdRegistry;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Almacén de cohortes fuera del heap, para archivos de varios ciclos que se conservan
+ * para auditorías de reclamos.
+ *
+ * Notas, pesos y asistencia viven en bloques de {@link ByteBuffer#allocateDirect} con un registro
+ * de tamaño fijo por estudiante, de modo que el heap solo contiene los ids (deduplicados en un
+ * {@link StudentIdRegistry}) y el costo de GC no crece con la cantidad de evaluaciones.
+ * {@link com.utec.gradecalculator.service.GradeCalculator} califica directamente sobre él
+ * (implementa {@link CohortColumns}).
+ *
+ * Registro ({@value #RECORD_BYTES} bytes, orden de bytes nativo):
+ * <pre>
+ *  handle      int       handle del id en el registro de ids
+ *  reached     byte      1 si alcanzó la asistencia mínima
+ *  count       byte      evaluaciones usadas (0..MAX_EVALUATIONS)
+ *  padding     2 bytes   alinea los double a 8
+ *  slots       (score double, weight double) x MAX_EVALUATIONS
+ * </pre>
+ * Las evaluaciones de la fila {@code i} ocupan las posiciones
+ * {@code [i * MAX_EVALUATIONS, i * MAX_EVALUATIONS + count)}: entre filas quedan posiciones sin usar.
+ *
+ * Un mismo id puede aparecer en varias filas (p. ej. un ciclo por fila). Solo se agregan filas;
+ * {@code append} no es thread-safe, pero una vez terminada la carga las lecturas concurrentes sí lo son.
+ * La memoria nativa se libera cuando el almacén deja de ser alcanzable.
+ */
+public final class OffHeapCohortStore implements CohortColumns {
+
+    static final int HANDLE_OFFSET = 0;
+    static final int REACHED_OFFSET = 4;
+    static final int COUNT_OFFSET = 5;
+    static final int SLOTS_OFFSET = 8;
+    static final int SLOT_BYTES = 2 * Double.BYTES;
+    static final int RECORD_BYTES = SLOTS_OFFSET + Student.MAX_EVALUATIONS * SLOT_BYTES;
+
+    /** Filas como máximo: el índice de evaluación {@code row * MAX_EVALUATIONS} debe caber en un int. */
+    public static final int MAX_ROWS = Integer.MAX_VALUE / Student.MAX_EVALUATIONS;
+
+    private static final int DEFAULT_CHUNK_SHIFT = 14; // 16384 registros (~2.6 MB) por bloque
+
+    private final int chunkShift;
+    private final int chunkMask;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private final StudentIdRegistry ids = new StudentIdRegistry();
+    private int size;
+    private int evaluationCount;
+
+    public OffHeapCohortStore() {
+        this(1 << DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * @param recordsPerChunk registros por bloque de memoria directa (potencia de 2, > 0)
+     */
+    public OffHeapCohortStore(int recordsPerChunk) {
+        if (recordsPerChunk <= 0 || Integer.bitCount(recordsPerChunk) != 1
+                || (long) recordsPerChunk * RECORD_BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("recordsPerChunk must be a positive power of two (was: "
+                    + recordsPerChunk + ")");
+        }
+        this.chunkShift = Integer.numberOfTrailingZeros(recordsPerChunk);
+        this.chunkMask = recordsPerChunk - 1;
+    }
+
+    /**
+     * Agrega una fila copiando notas y pesos fuera del heap.
+     *
+     * @param id                   id del estudiante (se normaliza como en Student)
+     * @param hasReachedMinClasses asistencia mínima
+     * @param scores               notas (mismo largo que {@code weights}, como mucho MAX_EVALUATIONS)
+     * @param weights              pesos
+     * @return índice de la fila agregada
+     * @throws IllegalArgumentException si el id, la cantidad de evaluaciones o algún valor es inválido
+     * @throws IllegalStateException    si se alcanzó {@link #MAX_ROWS}
+     */
+    public int append(String id, boolean hasReachedMinClasses, double[] scores, double[] weights) {
+        BitSet invalid = Evaluation.validateAll(scores, weights);
+        if (scores.length > Student.MAX_EVALUATIONS) {
+            throw new IllegalArgumentException("A student can have at most " + Student.MAX_EVALUATIONS
+                    + " evaluations (was: " + scores.length + ")");
+        }
+        if (!invalid.isEmpty()) {
+            throw new IllegalArgumentException(invalid.cardinality() + " invalid evaluations (first at index "
+                    + invalid.nextSetBit(0) + ")");
+        }
+        if (size == MAX_ROWS) {
+            throw new IllegalStateException("Store is full (" + MAX_ROWS + " rows)");
+        }
+        int handle = ids.intern(id);
+
+        int row = size;
+        if ((row & chunkMask) == 0) {
+            chunks.add(ByteBuffer.allocateDirect((chunkMask + 1) * RECORD_BYTES).order(ByteOrder.nativeOrder()));
+        }
+        ByteBuffer chunk = chunks.get(row >>> chunkShift);
+        int base = (row & chunkMask) * RECORD_BYTES;
+        chunk.putInt(base + HANDLE_OFFSET, handle);
+        chunk.put(base + REACHED_OFFSET, (byte) (hasReachedMinClasses ? 1 : 0));
+        chunk.put(base + COUNT_OFFSET, (byte) scores.length);
+        int slot = base + SLOTS_OFFSET;
+        for (int k = 0; k < scores.length; k++, slot += SLOT_BYTES) {
+            chunk.putDouble(slot, scores[k]);
+            chunk.putDouble(slot + Double.BYTES, weights[k]);
+        }
+
+        evaluationCount += scores.length;
+        size = row + 1;
+        return row;
+    }
+
+    /**
+     * Agrega el estado actual de un estudiante.
+     */
+    public int append(Student student) {
+        Objects.requireNonNull(student, "student must not be null");
+        List<Evaluation> evaluations = student.getEvaluations();
+        double[] scores = new double[evaluations.size()];
+        double[] weights = new double[evaluations.size()];
+        for (int k = 0; k < scores.length; k++) {
+            scores[k] = evaluations.get(k).getScore();
+            weights[k] = evaluations.get(k).getWeight();
+        }
+        return append(student.getId(), student.hasReachedMinClasses(), scores, weights);
+    }
+
+    /**
+     * Reconstruye el Student de la fila indicada (nuevo objeto en el heap, independiente del almacén).
+     */
+    public Student toStudent(int index) {
+        Student s = new Student(getId(index));
+        s.setHasReachedMinClasses(hasReachedMinClasses(index));
+        for (int j = evaluationStart(index), end = evaluationEnd(index); j < end; j++) {
+            s.addEvaluation(new Evaluation(getScore(j), getWeight(j)));
+        }
+        return s;
+    }
+
+    /**
+     * Ids distintos registrados (un mismo estudiante puede ocupar varias filas).
+     */
+    public int distinctIds() {
+        return ids.size();
+    }
+
+    /**
+     * Bytes de memoria directa reservados.
+     */
+    public long offHeapBytes() {
+        return (long) chunks.size() * (chunkMask + 1) * RECORD_BYTES;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int evaluationCount() {
+        return evaluationCount;
+    }
+
+    @Override
+    public String getId(int index) {
+        Objects.checkIndex(index, size);
+        return ids.idOf(chunk(index).getInt(recordBase(index) + HANDLE_OFFSET));
+    }
+
+    @Override
+    public boolean hasReachedMinClasses(int index) {
+        Objects.checkIndex(index, size);
+        return chunk(index).get(recordBase(index) + REACHED_OFFSET) != 0;
+    }
+
+    @Override
+    public int evaluationStart(int index) {
+        Objects.checkIndex(index, size);
+        return index * Student.MAX_EVALUATIONS;
+    }
+
+    @Override
+    public int evaluationEnd(int index) {
+        Objects.checkIndex(index, size);
+        return index * Student.MAX_EVALUATIONS + chunk(index).get(recordBase(index) + COUNT_OFFSET);
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException si la posición no está en {@code [evaluationStart(i), evaluationEnd(i))}
+     *                                   de ninguna fila (incluye las posiciones sin usar entre filas)
+     */
+    @Override
+    public double getScore(int evaluationIndex) {
+        int row = evaluationIndex / Student.MAX_EVALUATIONS;
+        return chunk(row).getDouble(slotBase(row, evaluationIndex));
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException en los mismos casos que {@link #getScore(int)}
+     */
+    @Override
+    public double getWeight(int evaluationIndex) {
+        int row = evaluationIndex / Student.MAX_EVALUATIONS;
+        return chunk(row).getDouble(slotBase(row, evaluationIndex) + Double.BYTES);
+    }
+
+    private ByteBuffer chunk(int row) {
+        return chunks.get(row >>> chunkShift);
+    }
+
+    private int recordBase(int row) {
+        return (row & chunkMask) * RECORD_BYTES;
+    }
+
+    // Las posiciones sin usar del registro valen 0.0: leerlas daría una evaluación falsa sin ningún error
+    private int slotBase(int row, int evaluationIndex) {
+        int slot = evaluationIndex - row * Student.MAX_EVALUATIONS;
+        if (evaluationIndex < 0 || row >= size || slot >= chunk(row).get(recordBase(row) + COUNT_OFFSET)) {
+            throw new IndexOutOfBoundsException("Evaluation index " + evaluationIndex
+                    + " is outside the evaluations of every row");
+        }
+        return recordBase(row) + SLOTS_OFFSET + slot * SLOT_BYTES;
+    }
+}
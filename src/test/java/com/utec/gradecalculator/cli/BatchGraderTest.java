@@ -0,0 +1,95 @@
+package com.utec.gradecalculator.cli;
+
+import com.utec.gradecalculator.policy.AllYearsTeachersPolicy;
+import com.utec.gradecalculator.policy.DefaultAttendancePolicy;
+import com.utec.gradecalculator.service.GradeCalculator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchGraderTest {
+
+    private final BatchGrader grader = new BatchGrader(new GradeCalculator(),
+            new DefaultAttendancePolicy(5.0), new AllYearsTeachersPolicy(2.5), ',');
+
+    private String run(String input, StringWriter errors, BatchGrader.Summary[] summary) throws Exception {
+        StringWriter out = new StringWriter();
+        try (BufferedWriter w = new BufferedWriter(out)) {
+            summary[0] = grader.run(new BufferedReader(new StringReader(input)), w, new PrintWriter(errors));
+        }
+        return out.toString();
+    }
+
+    @Test
+    void shouldGradeValidRowsAndSkipHeader() throws Exception {
+        StringWriter errors = new StringWriter();
+        BatchGrader.Summary[] summary = new BatchGrader.Summary[1];
+        String out = run("id,attendance,consensus,s1,w1,s2,w2\n"
+                + "a1,y,n,80,50,90,50\n"
+                + "\n"
+                + "# comentario\n"
+                + "a2,n,yes,70,100\n", errors, summary);
+
+        String[] lines = out.split("\\R");
+        assertEquals("id,weightedAverage,penalty,extraPoints,finalGrade", lines[0]);
+        assertEquals("a1,85.0000,0.0000,0.0000,85.0000", lines[1]);
+        assertEquals("a2,70.0000,5.0000,2.5000,67.5000", lines[2]);
+        assertEquals(2, summary[0].getGraded());
+        assertEquals(0, summary[0].getRejected());
+        assertEquals("", errors.toString());
+    }
+
+    @Test
+    void shouldReportMalformedRowsWithLineNumbersAndContinue() throws Exception {
+        StringWriter errors = new StringWriter();
+        BatchGrader.Summary[] summary = new BatchGrader.Summary[1];
+        String out = run("a1,y,n,80,50\n"
+                + "a2,maybe,n,80,50\n"
+                + "a3,y,n,abc,50\n"
+                + "a4,y,n,150,50\n"
+                + "a5,y,n,80\n"
+                + "a6,y,y,60,100\n", errors, summary);
+
+        assertEquals(2, summary[0].getGraded());
+        assertEquals(4, summary[0].getRejected());
+        List<String> errorLines = errors.toString().lines().toList();
+        assertEquals(4, errorLines.size());
+        assertTrue(errorLines.get(0).startsWith("line 2: "));
+        assertTrue(errorLines.get(1).startsWith("line 3: "));
+        assertTrue(errorLines.get(2).startsWith("line 4: "));
+        assertTrue(errorLines.get(3).startsWith("line 5: "));
+        assertTrue(out.contains("a6,60.0000,0.0000,2.5000,62.5000"));
+    }
+
+    @Test
+    void shouldProcessTsvFiles(@TempDir Path dir) throws Exception {
+        Path input = dir.resolve("grades.tsv");
+        Path output = dir.resolve("results.tsv");
+        Files.writeString(input, "b1\ty\tn\t60\t50\t80\t50\n", StandardCharsets.UTF_8);
+
+        BatchGrader tsv = new BatchGrader(new GradeCalculator(),
+                new DefaultAttendancePolicy(5.0), new AllYearsTeachersPolicy(2.5), BatchGrader.delimiterFor(input));
+        BatchGrader.Summary summary = tsv.run(input, output, new PrintWriter(new StringWriter()));
+
+        assertEquals(1, summary.getGraded());
+        List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+        assertEquals("b1\t70.0000\t0.0000\t0.0000\t70.0000", lines.get(1));
+    }
+
+    @Test
+    void delimiterShouldDependOnExtension() {
+        assertEquals('\t', BatchGrader.delimiterFor(Path.of("x.TSV")));
+        assertEquals(',', BatchGrader.delimiterFor(Path.of("x.csv")));
+    }
+}
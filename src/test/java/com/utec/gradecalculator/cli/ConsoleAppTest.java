@@ -0,0 +1,40 @@
+package com.utec.gradecalculator.cli;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsoleAppTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void usageErrorsShouldExitWithUsageStatus() {
+        assertEquals(ConsoleApp.EXIT_USAGE, ConsoleApp.run(new String[]{"--bogus"}));
+        assertEquals(ConsoleApp.EXIT_USAGE, ConsoleApp.run(new String[]{"--input", "a.csv"}));
+        assertEquals(ConsoleApp.EXIT_USAGE, ConsoleApp.run(new String[]{"--output"}));
+        assertEquals(ConsoleApp.EXIT_USAGE, ConsoleApp.run(new String[]{"--server"}));
+        assertEquals(ConsoleApp.EXIT_USAGE, ConsoleApp.run(new String[]{"--server", "not-a-port"}));
+    }
+
+    @Test
+    void batchShouldExitWithFailureStatusOnIoErrors() {
+        String[] args = {"--input", dir.resolve("missing.csv").toString(), "--output", dir.resolve("out.csv").toString()};
+        assertEquals(ConsoleApp.EXIT_FAILURE, ConsoleApp.run(args));
+    }
+
+    @Test
+    void successfulBatchShouldExitWithOkStatus() throws Exception {
+        Path input = Files.writeString(dir.resolve("in.csv"), "a1,y,n,80,50,90,50\n");
+        Path output = dir.resolve("out.csv");
+
+        assertEquals(ConsoleApp.EXIT_OK, ConsoleApp.run(new String[]{"--input", input.toString(),
+                "--output", output.toString()}));
+        assertTrue(Files.readString(output).contains("\na1,"));
+    }
+}
@@ -0,0 +1,152 @@
+package com.utec.gradecalculator.cli;
+
+import com.utec.gradecalculator.policy.AllYearsTeachersPolicy;
+import com.utec.gradecalculator.policy.DefaultAttendancePolicy;
+import com.utec.gradecalculator.policy.ExtraPointsPolicy;
+import com.utec.gradecalculator.service.GradeCalculator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradingServerTest {
+
+    private static GradingServer start(SocketAddress address) throws IOException {
+        return GradingServer.start(new GradeCalculator(),
+                new DefaultAttendancePolicy(5.0), new AllYearsTeachersPolicy(2.5), address, 4);
+    }
+
+    // Envía todas las solicitudes de una vez (pipelining) y lee la cantidad de respuestas esperada
+    private static List<String> exchange(SocketChannel channel, String requests, int expectedResponses) throws IOException {
+        OutputStream out = Channels.newOutputStream(channel);
+        out.write(requests.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+        BufferedReader in = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+        List<String> responses = new ArrayList<>();
+        for (int i = 0; i < expectedResponses; i++) {
+            responses.add(in.readLine());
+        }
+        return responses;
+    }
+
+    @Test
+    void shouldAnswerPipelinedRequestsInOrderOverTcp() throws IOException {
+        try (GradingServer server = start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+             SocketChannel channel = SocketChannel.open(server.getLocalAddress())) {
+
+            StringBuilder requests = new StringBuilder();
+            for (int i = 0; i < 200; i++) {
+                requests.append("s").append(i).append(",yes,no,80,50,90,50\n");
+            }
+            requests.append("# comentario\n\nbad,maybe,yes\ns-last,no,yes,60,100\n");
+
+            List<String> responses = exchange(channel, requests.toString(), 202);
+            for (int i = 0; i < 200; i++) {
+                assertEquals("s" + i + ",85.0000,0.0000,0.0000,85.0000", responses.get(i));
+            }
+            assertEquals("ERR attendance must be y/n (was: 'maybe')", responses.get(200));
+            assertEquals("s-last,60.0000,5.0000,2.5000,57.5000", responses.get(201));
+        }
+    }
+
+    @Test
+    void shouldServeUnixDomainSocketAndCleanUp(@TempDir Path dir) throws IOException {
+        Path socket = dir.resolve("grading.sock");
+        try (GradingServer server = start(UnixDomainSocketAddress.of(socket))) {
+            try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+                channel.connect(server.getLocalAddress());
+                assertEquals(List.of("u1,70.0000,0.0000,2.5000,72.5000"), exchange(channel, "u1,y,y,70,10\n", 1));
+            }
+        }
+        assertFalse(Files.exists(socket));
+    }
+
+    @Test
+    void policyFailuresShouldBeAnsweredWithoutDroppingPipelinedRequests() throws IOException {
+        ExtraPointsPolicy flaky = (allYearsTeachers, student) -> {
+            if (student != null && student.getId().equals("boom")) {
+                throw new UnsupportedOperationException("extra points service down");
+            }
+            return 0.0;
+        };
+        try (GradingServer server = GradingServer.start(new GradeCalculator(), new DefaultAttendancePolicy(5.0), flaky,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4);
+             SocketChannel channel = SocketChannel.open(server.getLocalAddress())) {
+
+            List<String> responses = exchange(channel, "boom,y,n,80,1\nok,y,n,80,1\n", 2);
+
+            assertEquals("ERR extra points service down", responses.get(0));
+            assertEquals("ok,80.0000,0.0000,0.0000,80.0000", responses.get(1));
+        }
+    }
+
+    @Test
+    void requestsSplitAcrossWritesShouldBeReassembled() throws IOException {
+        try (GradingServer server = start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+             SocketChannel channel = SocketChannel.open(server.getLocalAddress())) {
+            byte[] request = "añ,y,n,70,1\n".getBytes(StandardCharsets.UTF_8);
+            // Corta dentro de la 'ñ' (2 bytes en UTF-8)
+            int cut = 2;
+            OutputStream out = Channels.newOutputStream(channel);
+            out.write(request, 0, cut);
+            out.flush();
+            out.write(request, cut, request.length - cut);
+            out.flush();
+
+            BufferedReader in = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+            assertEquals("añ,70.0000,0.0000,0.0000,70.0000", in.readLine());
+        }
+    }
+
+    @Test
+    void overlongLineShouldBeRejectedAndSkipped() throws IOException {
+        try (GradingServer server = start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+             SocketChannel channel = SocketChannel.open(server.getLocalAddress())) {
+            // Varias lecturas del socket sin salto de línea: el servidor no debe acumularlas
+            String overlong = "x".repeat(4 * GradingServer.MAX_LINE_BYTES);
+            String atLimit = "a1,y,n,70,1" + " ".repeat(GradingServer.MAX_LINE_BYTES - "a1,y,n,70,1".length());
+
+            List<String> responses = exchange(channel, "s1,y,n,80,1\n" + overlong + "\n" + atLimit + "\ns2,y,n,90,1\n", 4);
+
+            assertEquals("s1,80.0000,0.0000,0.0000,80.0000", responses.get(0));
+            assertEquals(GradingServer.LINE_TOO_LONG, responses.get(1));
+            assertEquals("a1,70.0000,0.0000,0.0000,70.0000", responses.get(2));
+            assertEquals("s2,90.0000,0.0000,0.0000,90.0000", responses.get(3));
+        }
+    }
+
+    @Test
+    void shouldRejectNonLoopbackTcpAddress() {
+        assertThrows(IllegalArgumentException.class,
+                () -> start(new InetSocketAddress("0.0.0.0", 0)));
+    }
+
+    @Test
+    void closeShouldDisconnectClients() throws Exception {
+        GradingServer server = start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        try (SocketChannel channel = SocketChannel.open(server.getLocalAddress())) {
+            assertEquals(1, exchange(channel, "a,y,n\n", 1).size());
+            server.close();
+            server.awaitClose();
+            BufferedReader in = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+            assertNull(in.readLine());
+        }
+    }
+}
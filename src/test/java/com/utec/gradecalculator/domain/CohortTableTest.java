@@ -0,0 +1,104 @@
+package com.utec.gradecalculator.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CohortTableTest {
+
+    private static Student student(String id, boolean attendance, double... scoreWeightPairs) {
+        Student s = new Student(id);
+        s.setHasReachedMinClasses(attendance);
+        for (int i = 0; i < scoreWeightPairs.length; i += 2) {
+            s.addEvaluation(new Evaluation(scoreWeightPairs[i], scoreWeightPairs[i + 1]));
+        }
+        return s;
+    }
+
+    @Test
+    void shouldStoreEvaluationsInFlatColumnsWithOffsets() {
+        CohortTable t = CohortTable.fromStudents(List.of(
+                student("a", true, 80.0, 50.0, 90.0, 50.0),
+                student("b", false),
+                student("c", true, 70.0, 100.0)));
+
+        assertEquals(3, t.size());
+        assertEquals(3, t.evaluationCount());
+        assertEquals(0, t.evaluationStart(0));
+        assertEquals(2, t.evaluationEnd(0));
+        assertEquals(2, t.evaluationStart(1));
+        assertEquals(2, t.evaluationEnd(1));
+        assertEquals(2, t.evaluationStart(2));
+        assertEquals(3, t.evaluationEnd(2));
+        assertEquals(90.0, t.getScore(1), 0.0);
+        assertEquals(100.0, t.getWeight(2), 0.0);
+        assertEquals("b", t.getId(1));
+        assertFalse(t.hasReachedMinClasses(1));
+    }
+
+    @Test
+    void shouldRoundTripStudents() {
+        Student a = student("a", true, 80.0, 50.0, 90.0, 50.0);
+        Student b = student("b", false, 15.5, 20.0);
+        CohortTable t = CohortTable.fromStudents(List.of(a, b));
+
+        List<Student> back = t.toStudents();
+        assertEquals(List.of(a, b), back);
+        assertEquals(a.getEvaluations(), back.get(0).getEvaluations());
+        assertEquals(b.getEvaluations(), back.get(1).getEvaluations());
+        assertTrue(back.get(0).hasReachedMinClasses());
+        assertFalse(back.get(1).hasReachedMinClasses());
+    }
+
+    @Test
+    void shouldNotReflectLaterStudentMutations() {
+        Student a = student("a", true, 80.0, 50.0);
+        CohortTable t = CohortTable.fromStudents(List.of(a));
+        a.clearEvaluations();
+        assertEquals(1, t.evaluationCount());
+    }
+
+    @Test
+    void shouldRejectInvalidInput() {
+        assertThrows(NullPointerException.class, () -> CohortTable.fromStudents(null));
+        CohortTable t = CohortTable.fromStudents(List.of(student("a", true)));
+        assertThrows(IndexOutOfBoundsException.class, () -> t.getId(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> t.toStudent(-1));
+    }
+
+    @Test
+    void fromColumnsShouldMatchFromStudents() {
+        CohortTable expected = CohortTable.fromStudents(List.of(
+                student("a", true, 80.0, 50.0, 90.0, 50.0),
+                student("b", false),
+                student("c", true, 70.0, 100.0)));
+        double[] scores = {80.0, 90.0, 70.0};
+        CohortTable t = CohortTable.fromColumns(new String[]{" a ", "b", "c"}, new boolean[]{true, false, true},
+                new int[]{0, 2, 2, 3}, scores, new double[]{50.0, 50.0, 100.0});
+        scores[0] = 0.0;
+
+        assertEquals(expected.toStudents().size(), t.size());
+        for (int i = 0; i < t.size(); i++) {
+            assertEquals(expected.toStudent(i).getId(), t.getId(i));
+            assertEquals(expected.toStudent(i).getEvaluations(), t.toStudent(i).getEvaluations());
+            assertEquals(expected.hasReachedMinClasses(i), t.hasReachedMinClasses(i));
+        }
+    }
+
+    @Test
+    void fromColumnsShouldRejectInvalidInputWithSingleException() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> CohortTable.fromColumns(new String[]{"a"}, new boolean[]{true}, new int[]{0, 3},
+                        new double[]{50.0, 101.0, Double.NaN}, new double[]{10.0, 10.0, 10.0}));
+        assertEquals("2 invalid evaluations (first at index 1)", ex.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> CohortTable.fromColumns(new String[]{"a"},
+                new boolean[]{true}, new int[]{0, 2}, new double[]{1.0}, new double[]{1.0}));
+        assertThrows(IllegalArgumentException.class, () -> CohortTable.fromColumns(new String[]{"a"},
+                new boolean[]{true}, new int[]{0, 11}, new double[11], new double[11]));
+        assertThrows(IllegalArgumentException.class, () -> CohortTable.fromColumns(new String[]{" "},
+                new boolean[]{true}, new int[]{0, 0}, new double[0], new double[0]));
+    }
+}
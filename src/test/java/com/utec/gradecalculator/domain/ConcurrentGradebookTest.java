@@ -0,0 +1,88 @@
+package com.utec.gradecalculator.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentGradebookTest {
+
+    @Test
+    void shouldBehaveLikeStudentForSingleWriter() {
+        ConcurrentGradebook book = new ConcurrentGradebook();
+        assertTrue(book.register(" s1 "));
+        assertFalse(book.register("s1"));
+        assertTrue(book.contains("s1"));
+
+        book.addEvaluation("s1", new Evaluation(80.0, 40.0));
+        book.addEvaluation("s1", new Evaluation(60.0, 60.0));
+        book.setHasReachedMinClasses("s1", true);
+        assertEquals(new Evaluation(80.0, 40.0), book.removeEvaluation("s1", 0));
+
+        Student snapshot = book.snapshot("s1");
+        assertEquals("s1", snapshot.getId());
+        assertTrue(snapshot.hasReachedMinClasses());
+        assertEquals(List.of(new Evaluation(60.0, 60.0)), snapshot.getEvaluations());
+        assertEquals(snapshot.getEvaluations(), book.getEvaluations("s1"));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> book.removeEvaluation("s1", 5));
+        assertThrows(IllegalArgumentException.class, () -> book.addEvaluation("nobody", new Evaluation(1.0, 1.0)));
+        assertThrows(IllegalArgumentException.class, () -> book.register(" "));
+    }
+
+    @Test
+    void concurrentWritersShouldNeverExceedMaxEvaluations() throws Exception {
+        ConcurrentGradebook book = new ConcurrentGradebook();
+        book.register("s");
+        int writers = 8;
+        int attemptsPerWriter = 5;
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(writers + 1);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < attemptsPerWriter; i++) {
+                    try {
+                        book.addEvaluation("s", new Evaluation(50.0, 10.0));
+                    } catch (IllegalStateException ex) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        Future<?> reader = pool.submit(() -> {
+            start.await();
+            for (int i = 0; i < 1_000; i++) {
+                Student snapshot = book.snapshot("s");
+                // Todas las evaluaciones son iguales: cualquier estado consistente promedia 50
+                if (!snapshot.getEvaluations().isEmpty()) {
+                    assertEquals(50.0, snapshot.getWeightedAverage(), 1e-9);
+                }
+                assertTrue(snapshot.getEvaluations().size() <= Student.MAX_EVALUATIONS);
+            }
+            return null;
+        });
+
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get(5, TimeUnit.SECONDS);
+        }
+        reader.get(5, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        assertEquals(Student.MAX_EVALUATIONS, book.getEvaluations("s").size());
+        assertEquals(writers * attemptsPerWriter - Student.MAX_EVALUATIONS, rejected.get());
+    }
+}
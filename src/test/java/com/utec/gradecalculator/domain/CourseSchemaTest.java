@@ -0,0 +1,106 @@
+package com.utec.gradecalculator.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseSchemaTest {
+
+    @Test
+    void shouldPrecomputeTotalWeight() {
+        CourseSchema schema = CourseSchema.of(20.0, 30.0, 50.0);
+
+        assertEquals(3, schema.size());
+        assertEquals(100.0, schema.getTotalWeight(), 0.0);
+        assertEquals(10_000L, schema.getTotalWeightHundredths());
+        assertEquals(30.0, schema.getWeight(1), 0.0);
+    }
+
+    @Test
+    void weightedAverageShouldMatchNormalizedDotProduct() {
+        CourseSchema schema = CourseSchema.of(20.0, 30.0, 50.0);
+
+        assertEquals(0.2 * 80 + 0.3 * 60 + 0.5 * 90, schema.weightedAverage(new double[]{80.0, 60.0, 90.0}), 1e-12);
+        double allMax = CourseSchema.of(1.0, 1.0, 1.0).weightedAverage(new double[]{100.0, 100.0, 100.0});
+        assertEquals(100.0, allMax, 0.0);
+    }
+
+    @Test
+    void zeroTotalWeightShouldGiveZeroAverage() {
+        CourseSchema schema = CourseSchema.of(0.0, 0.0);
+
+        assertEquals(0.0, schema.getTotalWeight(), 0.0);
+        assertEquals(0.0, schema.weightedAverage(new double[]{90.0, 70.0}), 0.0);
+        assertEquals(0.0, schema.weightedAverageFixedPoint(new double[]{90.0, 70.0}), 0.0);
+    }
+
+    @Test
+    void fixedPointAverageShouldMatchStudentSums() {
+        CourseSchema schema = CourseSchema.of(33.33, 33.33, 33.34);
+        double[] scores = {71.1, 82.2, 93.3};
+        Student s = schema.toStudent("x", scores, true);
+
+        double expected = (double) s.getSumWeightedScoresHundredths() / (s.getSumWeightsHundredths() * 100.0);
+        assertEquals(expected, schema.weightedAverageFixedPoint(scores), 0.0);
+        assertEquals(s.getWeightedAverage(), schema.weightedAverage(scores), 0.0);
+        assertEquals(s.getSumWeights(), schema.getTotalWeight(), 0.0);
+    }
+
+    @Test
+    void weightedAverageShouldMatchStudentForRandomSchemas() {
+        Random random = new Random(24);
+        for (int n = 0; n < 500; n++) {
+            double[] weights = new double[1 + random.nextInt(Student.MAX_EVALUATIONS)];
+            double[] scores = new double[weights.length];
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = random.nextInt(10_001) / 100.0;
+                scores[i] = random.nextInt(10_001) / 100.0;
+            }
+            CourseSchema schema = CourseSchema.of(weights);
+
+            assertEquals(schema.toStudent("x", scores, true).getWeightedAverage(), schema.weightedAverage(scores), 0.0);
+        }
+    }
+
+    @Test
+    void toStudentShouldCarryScoresAndWeights() {
+        Student s = CourseSchema.of(40.0, 60.0).toStudent("  Ana ", new double[]{50.0, 75.0}, false);
+
+        assertEquals("Ana", s.getId());
+        assertFalse(s.hasReachedMinClasses());
+        assertEquals(2, s.getEvaluations().size());
+        assertEquals(new Evaluation(75.0, 60.0), s.getEvaluations().get(1));
+    }
+
+    @Test
+    void shouldRejectInvalidSchemas() {
+        assertThrows(NullPointerException.class, () -> CourseSchema.of((double[]) null));
+        assertThrows(IllegalArgumentException.class, CourseSchema::of);
+        assertThrows(IllegalArgumentException.class, () -> CourseSchema.of(new double[Student.MAX_EVALUATIONS + 1]));
+        assertThrows(IllegalArgumentException.class, () -> CourseSchema.of(50.0, -1.0));
+        assertThrows(IllegalArgumentException.class, () -> CourseSchema.of(Double.NaN));
+    }
+
+    @Test
+    void shouldRejectInvalidScores() {
+        CourseSchema schema = CourseSchema.of(50.0, 50.0);
+
+        assertThrows(NullPointerException.class, () -> schema.weightedAverage(null));
+        assertThrows(IllegalArgumentException.class, () -> schema.weightedAverage(new double[]{80.0}));
+        assertThrows(IllegalArgumentException.class, () -> schema.weightedAverage(new double[]{80.0, 100.5}));
+        assertThrows(IllegalArgumentException.class, () -> schema.weightedAverageFixedPoint(new double[]{Double.NaN, 1.0}));
+    }
+
+    @Test
+    void shouldCopyWeightsAndCompareByContent() {
+        double[] weights = {25.0, 75.0};
+        CourseSchema schema = CourseSchema.of(weights);
+        weights[0] = 99.0;
+
+        assertEquals(25.0, schema.getWeight(0), 0.0);
+        assertEquals(CourseSchema.of(25.0, 75.0), schema);
+        assertEquals(CourseSchema.of(25.0, 75.0).hashCode(), schema.hashCode());
+    }
+}
@@ -2,6 +2,8 @@ package com.utec.gradecalculator.domain;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.BitSet;
+
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.testng.AssertJUnit.*;
 
@@ -63,5 +65,35 @@ class EvaluationTest {
         assertThrows(IllegalArgumentException.class, () -> new Evaluation(Double.NaN, 10.0));
         assertThrows(IllegalArgumentException.class, () -> new Evaluation(50.0, Double.POSITIVE_INFINITY));
     }
-}
 
+    @Test
+    void hundredthsShouldRoundToNearest() {
+        Evaluation e = new Evaluation(87.456, 0.004);
+        assertEquals(8746L, e.getScoreHundredths());
+        assertEquals(0L, e.getWeightHundredths());
+        assertEquals(10_000L, Evaluation.toHundredths(Evaluation.MAX_SCORE));
+        assertEquals(1L, Evaluation.toHundredths(0.005));
+    }
+
+    @Test
+    void bulkValidationShouldReportInvalidIndicesWithoutThrowing() {
+        double[] scores = {0.0, 100.0, -0.1, 50.0, Double.NaN, 50.0};
+        double[] weights = {0.0, 100.0, 10.0, 100.5, 10.0, Double.POSITIVE_INFINITY};
+
+        BitSet invalid = Evaluation.validateAll(scores, weights);
+
+        assertEquals(BitSet.valueOf(new long[]{0b111100}), invalid);
+        for (int i = 0; i < scores.length; i++) {
+            boolean valid = Evaluation.isValidScore(scores[i]) && Evaluation.isValidWeight(weights[i]);
+            assertEquals(!invalid.get(i), valid);
+            int index = i;
+            if (valid) {
+                assertEquals(scores[i], new Evaluation(scores[i], weights[i]).getScore(), 0.0);
+            } else {
+                assertThrows(IllegalArgumentException.class, () -> new Evaluation(scores[index], weights[index]));
+            }
+        }
+        assertTrue(Evaluation.validateAll(new double[0], new double[0]).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> Evaluation.validateAll(new double[1], new double[2]));
+    }
+}
@@ -0,0 +1,54 @@
+package com.utec.gradecalculator.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedPointFormatTest {
+
+    private static void assertSameAsFormatter(double v) {
+        assertEquals(String.format(Locale.ROOT, "%.4f", v), FixedPointFormat.format(v), "value " + v);
+    }
+
+    @Test
+    void shouldFormatCommonValues() {
+        assertEquals("0.0000", FixedPointFormat.format(0.0));
+        assertEquals("85.0000", FixedPointFormat.format(85.0));
+        assertEquals("2.5000", FixedPointFormat.format(2.5));
+        assertEquals("100.0000", FixedPointFormat.format(100.0));
+        assertEquals("0.0001", FixedPointFormat.format(0.0001));
+        assertEquals("33.3333", FixedPointFormat.format(100.0 / 3.0));
+        assertEquals("66.6667", FixedPointFormat.format(200.0 / 3.0));
+    }
+
+    @Test
+    void shouldMatchFormatterOnTiesAndEdgeCases() {
+        double[] values = {0.00005, 0.00015, 1.00005, 2.49995, 99.99995, 99.999949, 0.12345, 1e-9,
+                99_999.99995, 100_000.0, 1e12, -0.0, -1.5, Double.NaN, Double.POSITIVE_INFINITY};
+        for (double v : values) {
+            assertSameAsFormatter(v);
+        }
+    }
+
+    @Test
+    void shouldMatchFormatterOnRandomGrades() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            assertSameAsFormatter(random.nextDouble() * 1000.0);
+        }
+        for (int i = 0; i < 20_000; i++) {
+            // valores con 5 decimales exactos: fuerzan empates en el redondeo
+            assertSameAsFormatter(random.nextInt(10_000_000) / 100_000.0);
+        }
+    }
+
+    @Test
+    void appendShouldReturnSameBuilder() {
+        StringBuilder sb = new StringBuilder("x=");
+        assertSame(sb, FixedPointFormat.append(sb, 1.25));
+        assertEquals("x=1.2500", sb.toString());
+    }
+}
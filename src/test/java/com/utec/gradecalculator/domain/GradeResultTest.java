@@ -1,8 +1,10 @@
 package com.utec.gradecalculator.domain;
 
-
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.HashSet;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GradeResultTest {
@@ -63,5 +65,82 @@ class GradeResultTest {
         assertThrows(IllegalArgumentException.class, () ->
                 new GradeResult(50.0, Double.POSITIVE_INFINITY, 0.0, 50.0, ""));
     }
-}
 
+    @Test
+    void lazyDetailShouldRenderStandardFormatOnDemand() {
+        GradeResult r = GradeResult.withLazyDetail(85.0, 100.0, 5.0, 2.5, 82.5);
+        assertEquals("weightedAverage=85.0000, sumWeights=100.0000, penalty=5.0000, "
+                + "extraPoints=2.5000, finalGrade=82.5000", r.getDetail());
+        assertSame(r.getDetail(), r.getDetail());
+    }
+
+    @Test
+    void lazyDetailShouldMatchEagerTextButNotEqualEagerResult() {
+        GradeResult lazy = GradeResult.withLazyDetail(50.0, 0.0, 0.0, 0.0, 50.0);
+        GradeResult eager = new GradeResult(50.0, 0.0, 0.0, 50.0,
+                "weightedAverage=50.0000, sumWeights=0.0000, penalty=0.0000, extraPoints=0.0000, finalGrade=50.0000");
+        assertEquals(eager.getDetail(), lazy.getDetail());
+        // El resultado del constructor público no tiene sumWeights: no es igual a ninguno bajo demanda
+        assertNotEquals(eager, lazy);
+        assertNotEquals(lazy, eager);
+    }
+
+    @Test
+    void equalityShouldBeConsistentAcrossLazyAndEagerResults() {
+        GradeResult lazyA = GradeResult.withLazyDetail(85.0, 100.0, 5.0, 2.5, 82.5);
+        GradeResult lazyB = GradeResult.withLazyDetail(85.0, 50.0, 5.0, 2.5, 82.5);
+        GradeResult[] all = {
+                lazyA,
+                GradeResult.withLazyDetail(85.0, 100.0, 5.0, 2.5, 82.5),
+                lazyB,
+                GradeResult.withLazyDetail(85.0, 100.0, 5.0, 2.5, 83.0),
+                new GradeResult(85.0, 5.0, 2.5, 82.5, "x"),
+                new GradeResult(85.0, 5.0, 2.5, 82.5, "y")
+        };
+
+        // Una sola regla: simétrica, transitiva y coherente con hashCode para todo par
+        for (GradeResult a : all) {
+            for (GradeResult b : all) {
+                assertEquals(a.equals(b), b.equals(a));
+                if (a.equals(b)) {
+                    assertEquals(a.hashCode(), b.hashCode());
+                    for (GradeResult c : all) {
+                        assertEquals(b.equals(c), a.equals(c));
+                    }
+                }
+            }
+        }
+        assertEquals(lazyA, all[1]);
+        assertNotEquals(lazyA, lazyB);
+        assertNotEquals(lazyA, all[3]);
+        assertNotEquals(lazyA, all[4]);
+        assertEquals(4, new HashSet<>(Arrays.asList(all)).size());
+        assertFalse(lazyA.isDetailRendered());
+        assertFalse(lazyB.isDetailRendered());
+    }
+
+    @Test
+    void eagerResultsShouldIgnoreDetailText() {
+        GradeResult r = new GradeResult(80.0, 0.0, 0.0, 80.0, "a");
+        assertEquals(new GradeResult(80.0, 0.0, 0.0, 80.0, "b"), r);
+        assertNotEquals(new GradeResult(80.0, 0.0, 0.0, 79.0, "a"), r);
+        assertTrue(r.isDetailRendered());
+    }
+
+    @Test
+    void lazyDetailShouldValidateInputs() {
+        assertThrows(IllegalArgumentException.class, () -> GradeResult.withLazyDetail(50.0, -1.0, 0.0, 0.0, 50.0));
+        assertThrows(IllegalArgumentException.class, () -> GradeResult.withLazyDetail(50.0, Double.NaN, 0.0, 0.0, 50.0));
+        assertThrows(IllegalArgumentException.class, () -> GradeResult.withLazyDetail(101.0, 1.0, 0.0, 0.0, 50.0));
+    }
+
+    @Test
+    void validateComponentsShouldApplyConstructorRules() {
+        assertDoesNotThrow(() -> GradeResult.validateComponents(80.0, 0.0, 2.5, 82.5));
+        assertThrows(IllegalArgumentException.class, () -> GradeResult.validateComponents(100.5, 0.0, 0.0, 100.0));
+        assertThrows(IllegalArgumentException.class, () -> GradeResult.validateComponents(80.0, -1.0, 0.0, 79.0));
+        assertThrows(IllegalArgumentException.class, () -> GradeResult.validateComponents(80.0, 0.0, -1.0, 79.0));
+        assertThrows(IllegalArgumentException.class, () -> GradeResult.validateComponents(80.0, 0.0, 0.0, -0.5));
+        assertThrows(IllegalArgumentException.class, () -> GradeResult.validateComponents(Double.NaN, 0.0, 0.0, 0.0));
+    }
+}
@@ -0,0 +1,65 @@
+package com.utec.gradecalculator.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StudentIdRegistryTest {
+
+    @Test
+    void shouldAssignDenseHandlesInInsertionOrder() {
+        StudentIdRegistry registry = new StudentIdRegistry();
+        assertEquals(0, registry.intern("2023001"));
+        assertEquals(1, registry.intern("2023002"));
+        assertEquals(0, registry.intern(" 2023001 "));
+        assertEquals(2, registry.size());
+        assertEquals("2023002", registry.idOf(1));
+    }
+
+    @Test
+    void shouldReturnCanonicalInstance() {
+        StudentIdRegistry registry = new StudentIdRegistry();
+        int handle = registry.intern(new String("abc"));
+        String canonical = registry.idOf(handle);
+        assertSame(canonical, registry.idOf(registry.intern(new String("abc"))));
+    }
+
+    @Test
+    void lookupShouldNotRegister() {
+        StudentIdRegistry registry = new StudentIdRegistry();
+        registry.intern("a");
+        assertEquals(-1, registry.handleOf("b"));
+        assertEquals(-1, registry.handleOf(null));
+        assertFalse(registry.contains("b"));
+        assertTrue(registry.contains(" a"));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void shouldGrowAndKeepAllHandles() {
+        StudentIdRegistry registry = new StudentIdRegistry(0);
+        Map<String, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            String id = "S" + (i * 7919L % 1_000_003);
+            expected.putIfAbsent(id, expected.size());
+            assertEquals(expected.get(id).intValue(), registry.intern(id));
+        }
+        assertEquals(expected.size(), registry.size());
+        for (Map.Entry<String, Integer> e : expected.entrySet()) {
+            assertEquals(e.getValue().intValue(), registry.handleOf(e.getKey()));
+            assertEquals(e.getKey(), registry.idOf(e.getValue()));
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidInput() {
+        StudentIdRegistry registry = new StudentIdRegistry();
+        assertThrows(IllegalArgumentException.class, () -> registry.intern(null));
+        assertThrows(IllegalArgumentException.class, () -> registry.intern("  "));
+        assertThrows(IndexOutOfBoundsException.class, () -> registry.idOf(0));
+        assertThrows(IllegalArgumentException.class, () -> new StudentIdRegistry(-1));
+    }
+}
@@ -7,6 +7,7 @@ import static org.testng.AssertJUnit.assertEquals;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Random;
 
 class StudentTest {
 
@@ -55,4 +56,76 @@ class StudentTest {
         List<Evaluation> list = s.getEvaluations();
         assertThrows(UnsupportedOperationException.class, () -> list.add(null));
     }
+
+    // Suma compensada "desde cero" sobre la lista actual, como referencia
+    private static double[] freshSums(List<Evaluation> evaluations) {
+        WeightedSum sum = new WeightedSum();
+        for (Evaluation e : evaluations) {
+            sum.add(e.getScore(), e.getWeight());
+        }
+        return new double[]{sum.getSumWeightedScores(), sum.getSumWeights()};
+    }
+
+    private static void assertSumsMatchFreshRecomputation(Student s) {
+        double[] fresh = freshSums(s.getEvaluations());
+        assertEquals(Double.doubleToLongBits(fresh[0]), Double.doubleToLongBits(s.getSumWeightedScores()));
+        assertEquals(Double.doubleToLongBits(fresh[1]), Double.doubleToLongBits(s.getSumWeights()));
+
+        long weightedScoresHundredths = 0L;
+        long weightsHundredths = 0L;
+        for (Evaluation e : s.getEvaluations()) {
+            weightedScoresHundredths += e.getScoreHundredths() * e.getWeightHundredths();
+            weightsHundredths += e.getWeightHundredths();
+        }
+        assertEquals(weightedScoresHundredths, s.getSumWeightedScoresHundredths());
+        assertEquals(weightsHundredths, s.getSumWeightsHundredths());
+    }
+
+    @Test
+    void shouldMaintainWeightedAverageIncrementally() {
+        Student s = new Student("1");
+        assertEquals(0.0, s.getWeightedAverage(), 0.0);
+
+        s.addEvaluation(new Evaluation(80, 50));
+        s.addEvaluation(new Evaluation(90, 50));
+        assertEquals(85.0, s.getWeightedAverage(), 0.0);
+        assertEquals(100.0, s.getSumWeights(), 0.0);
+
+        s.removeEvaluation(0);
+        assertEquals(90.0, s.getWeightedAverage(), 0.0);
+
+        s.clearEvaluations();
+        assertEquals(0.0, s.getSumWeightedScores(), 0.0);
+        assertEquals(0.0, s.getWeightedAverage(), 0.0);
+    }
+
+    @Test
+    void setEvaluationShouldReplaceAndUpdateAverage() {
+        Student s = new Student("1");
+        s.addEvaluation(new Evaluation(40.0, 50.0));
+        s.addEvaluation(new Evaluation(60.0, 50.0));
+
+        assertEquals(new Evaluation(40.0, 50.0), s.setEvaluation(0, new Evaluation(80.0, 50.0)));
+        assertEquals(70.0, s.getWeightedAverage(), 1e-12);
+        assertSumsMatchFreshRecomputation(s);
+        assertThrows(IndexOutOfBoundsException.class, () -> s.setEvaluation(2, new Evaluation(1.0, 1.0)));
+        assertThrows(NullPointerException.class, () -> s.setEvaluation(0, null));
+    }
+
+    @Test
+    void runningSumsShouldBeBitIdenticalToFreshRecomputation() {
+        Random random = new Random(7);
+        Student s = new Student("1");
+        for (int round = 0; round < 2_000; round++) {
+            int op = random.nextInt(10);
+            if (op < 6 && s.getEvaluations().size() < Student.MAX_EVALUATIONS) {
+                s.addEvaluation(new Evaluation(random.nextDouble() * 100.0, random.nextDouble() * 100.0));
+            } else if (op < 9 && !s.getEvaluations().isEmpty()) {
+                s.removeEvaluation(random.nextInt(s.getEvaluations().size()));
+            } else {
+                s.clearEvaluations();
+            }
+            assertSumsMatchFreshRecomputation(s);
+        }
+    }
 }
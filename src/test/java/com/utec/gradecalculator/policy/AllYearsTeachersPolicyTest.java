@@ -46,5 +46,13 @@ class AllYearsTeachersPolicyTest {
         // student puede ser null sin lanzar NPE en esta implementación
         assertEquals(3.0, p.computeExtraPoints(true, null), 0.0001);
     }
-}
 
+    @Test
+    void equalsAndHashCode_shouldDependOnConfiguration() {
+        AllYearsTeachersPolicy a = new AllYearsTeachersPolicy(2.5);
+        AllYearsTeachersPolicy b = new AllYearsTeachersPolicy(2.5);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, new AllYearsTeachersPolicy(3.0));
+    }
+}
@@ -43,4 +43,13 @@ class DefaultAttendancePolicyTest {
         assertEquals(4.0, p.computePenalty(false, 0.0), 0.0001);
         assertEquals(4.0, p.computePenalty(false, 100.0), 0.0001);
     }
+
+    @Test
+    void equalsAndHashCode_shouldDependOnConfiguration() {
+        DefaultAttendancePolicy a = new DefaultAttendancePolicy(5.0);
+        DefaultAttendancePolicy b = new DefaultAttendancePolicy(5.0);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, new DefaultAttendancePolicy(3.0));
+    }
 }
@@ -0,0 +1,131 @@
+package com.utec.gradecalculator.service;
+
+import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.GradeResult;
+import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.policy.AllYearsTeachersPolicy;
+import com.utec.gradecalculator.policy.AttendancePolicy;
+import com.utec.gradecalculator.policy.DefaultAttendancePolicy;
+import com.utec.gradecalculator.policy.ExtraPointsPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingGradeCalculatorTest {
+
+    private final AttendancePolicy ap = new DefaultAttendancePolicy(5.0);
+    private final ExtraPointsPolicy ep = new AllYearsTeachersPolicy(2.5);
+
+    private static Student student(String id) {
+        Student s = new Student(id);
+        s.addEvaluation(new Evaluation(80.0, 50.0));
+        s.addEvaluation(new Evaluation(90.0, 50.0));
+        s.setHasReachedMinClasses(true);
+        return s;
+    }
+
+    @Test
+    void shouldReturnCachedResultForUnchangedStudent() {
+        CachingGradeCalculator cache = new CachingGradeCalculator(new GradeCalculator(), 10);
+        Student s = student("a");
+
+        GradeResult first = cache.calculateFinalGrade(s, ap, ep, true);
+        GradeResult second = cache.calculateFinalGrade(s, new DefaultAttendancePolicy(5.0), new AllYearsTeachersPolicy(2.5), true);
+
+        assertSame(first, second);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRate(), 0.0);
+    }
+
+    @Test
+    void shouldRecomputeAfterStudentMutations() {
+        GradeCalculator calc = new GradeCalculator();
+        CachingGradeCalculator cache = new CachingGradeCalculator(calc, 10);
+        Student s = student("a");
+        cache.calculateFinalGrade(s, ap, ep, false);
+
+        s.addEvaluation(new Evaluation(10.0, 100.0));
+        assertEquals(calc.calculateFinalGrade(s, ap, ep, false), cache.calculateFinalGrade(s, ap, ep, false));
+
+        s.removeEvaluation(0);
+        assertEquals(calc.calculateFinalGrade(s, ap, ep, false), cache.calculateFinalGrade(s, ap, ep, false));
+
+        s.clearEvaluations();
+        assertEquals(0.0, cache.calculateFinalGrade(s, ap, ep, false).getWeightedAverage(), 0.0);
+
+        s.setHasReachedMinClasses(false);
+        assertEquals(5.0, cache.calculateFinalGrade(s, ap, ep, false).getPenalty(), 0.0);
+
+        assertEquals(0, cache.getHitCount());
+        assertEquals(5, cache.getMissCount());
+    }
+
+    @Test
+    void shouldDistinguishPolicyConfigurationAndConsensus() {
+        CachingGradeCalculator cache = new CachingGradeCalculator(new GradeCalculator(), 10);
+        Student s = student("a");
+
+        assertEquals(0.0, cache.calculateFinalGrade(s, ap, ep, false).getExtraPoints(), 0.0);
+        assertEquals(2.5, cache.calculateFinalGrade(s, ap, ep, true).getExtraPoints(), 0.0);
+        assertEquals(1.0, cache.calculateFinalGrade(s, ap, new AllYearsTeachersPolicy(1.0), true).getExtraPoints(), 0.0);
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntries() {
+        CachingGradeCalculator cache = new CachingGradeCalculator(new GradeCalculator(), 2);
+        Student a = student("a");
+        Student b = student("b");
+        Student c = student("c");
+
+        cache.calculateFinalGrade(a, ap, ep, false);
+        cache.calculateFinalGrade(b, ap, ep, false);
+        cache.calculateFinalGrade(a, ap, ep, false); // a pasa a ser el más reciente
+        cache.calculateFinalGrade(c, ap, ep, false); // desaloja b
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        cache.calculateFinalGrade(a, ap, ep, false);
+        assertEquals(2, cache.getHitCount());
+        cache.calculateFinalGrade(b, ap, ep, false);
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTtl() {
+        AtomicLong now = new AtomicLong();
+        CachingGradeCalculator cache = new CachingGradeCalculator(new GradeCalculator(), 10, Duration.ofSeconds(1), now::get);
+        Student s = student("a");
+
+        cache.calculateFinalGrade(s, ap, ep, false);
+        now.addAndGet(Duration.ofMillis(999).toNanos());
+        cache.calculateFinalGrade(s, ap, ep, false);
+        assertEquals(1, cache.getHitCount());
+
+        now.addAndGet(Duration.ofMillis(1).toNanos());
+        cache.calculateFinalGrade(s, ap, ep, false);
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void invalidateAllShouldClearEntries() {
+        CachingGradeCalculator cache = new CachingGradeCalculator(new GradeCalculator(), 10);
+        cache.calculateFinalGrade(student("a"), ap, ep, false);
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        GradeCalculator calc = new GradeCalculator();
+        assertThrows(NullPointerException.class, () -> new CachingGradeCalculator(null, 10));
+        assertThrows(IllegalArgumentException.class, () -> new CachingGradeCalculator(calc, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CachingGradeCalculator(calc, 10, Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> new CachingGradeCalculator(calc, 10, null));
+    }
+}
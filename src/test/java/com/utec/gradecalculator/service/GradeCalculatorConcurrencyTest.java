@@ -18,7 +18,15 @@ class GradeCalculatorConcurrencyTest {
 
     @Test
     void shouldSupport50ConcurrentCalculations() throws Exception {
-        GradeCalculator calc = new GradeCalculator();
+        assertConcurrentCalculationsAgree(new GradeCalculator());
+    }
+
+    @Test
+    void shouldSupport50ConcurrentFixedPointCalculations() throws Exception {
+        assertConcurrentCalculationsAgree(new GradeCalculator(GradingMetrics.NOOP, GradingMode.FIXED_POINT));
+    }
+
+    private static void assertConcurrentCalculationsAgree(GradeCalculator calc) throws Exception {
         Student s = new Student("concurrency");
         s.addEvaluation(new Evaluation(80.0, 50.0));
         s.addEvaluation(new Evaluation(90.0, 50.0));
@@ -36,6 +44,7 @@ class GradeCalculatorConcurrencyTest {
         }
 
         GradeResult first = futures.get(0).get(1, TimeUnit.SECONDS);
+        assertEquals(85.0, first.getWeightedAverage(), 0.0);
         for (Future<GradeResult> f : futures) {
             GradeResult r = f.get(1, TimeUnit.SECONDS);
             assertEquals(first, r);
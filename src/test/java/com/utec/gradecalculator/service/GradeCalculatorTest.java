@@ -1,5 +1,7 @@
 package com.utec.gradecalculator.service;
 
+import com.utec.gradecalculator.domain.CohortTable;
+import com.utec.gradecalculator.domain.CourseSchema;
 import com.utec.gradecalculator.domain.Evaluation;
 import com.utec.gradecalculator.domain.GradeResult;
 import com.utec.gradecalculator.domain.Student;
@@ -9,6 +11,14 @@ import com.utec.gradecalculator.policy.AttendancePolicy;
 import com.utec.gradecalculator.policy.ExtraPointsPolicy;
 import org.junit.jupiter.api.Test;
 
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GradeCalculatorTest {
@@ -118,4 +128,283 @@ class GradeCalculatorTest {
         assertEquals(r1, r2);
         assertEquals(r1.getDetail(), r2.getDetail());
     }
+
+    @Test
+    void batchShouldReturnResultsInInputOrder() {
+        List<Student> cohort = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Student s = new Student("b" + i);
+            s.addEvaluation(new Evaluation(i % 101, 40.0));
+            s.addEvaluation(new Evaluation((i * 7) % 101, 60.0));
+            s.setHasReachedMinClasses(i % 3 != 0);
+            cohort.add(s);
+        }
+        AttendancePolicy ap = new DefaultAttendancePolicy(5.0);
+        ExtraPointsPolicy ep = new AllYearsTeachersPolicy(2.5);
+
+        List<GradeResult> sequential = calc.calculateFinalGrades(cohort, ap, ep, true);
+        List<GradeResult> parallel = calc.calculateFinalGrades(cohort, ap, ep, true, true);
+
+        assertEquals(cohort.size(), sequential.size());
+        for (int i = 0; i < cohort.size(); i++) {
+            GradeResult expected = calc.calculateFinalGrade(cohort.get(i), ap, ep, true);
+            assertEquals(expected, sequential.get(i));
+            assertEquals(expected, parallel.get(i));
+        }
+    }
+
+    @Test
+    void batchShouldHandleEmptyCohort() {
+        List<GradeResult> results = calc.calculateFinalGrades(
+                List.of(), new DefaultAttendancePolicy(0.0), new AllYearsTeachersPolicy(0.0), false);
+        assertTrue(results.isEmpty());
+    }
+
+    @Test
+    void batchShouldRejectNullArguments() {
+        AttendancePolicy ap = new DefaultAttendancePolicy(0.0);
+        ExtraPointsPolicy ep = new AllYearsTeachersPolicy(0.0);
+        List<Student> withNull = Arrays.asList(new Student("x"), null);
+
+        assertThrows(NullPointerException.class, () -> calc.calculateFinalGrades(null, ap, ep, false));
+        assertThrows(NullPointerException.class, () -> calc.calculateFinalGrades(List.of(), null, ep, false));
+        assertThrows(NullPointerException.class, () -> calc.calculateFinalGrades(List.of(), ap, null, false));
+        assertThrows(NullPointerException.class, () -> calc.calculateFinalGrades(withNull, ap, ep, false));
+    }
+
+    @Test
+    void cohortTableGradingShouldMatchStudentGrading() {
+        List<Student> cohort = new ArrayList<>();
+        // Más de un tramo del cálculo paralelo, con el último incompleto
+        for (int i = 0; i < 2_500; i++) {
+            Student s = new Student("c" + i);
+            for (int j = 0; j < i % 11; j++) {
+                s.addEvaluation(new Evaluation((i * 13 + j * 7) % 101, 5.0 + j));
+            }
+            s.setHasReachedMinClasses(i % 2 == 0);
+            cohort.add(s);
+        }
+        AttendancePolicy ap = new DefaultAttendancePolicy(5.0);
+        ExtraPointsPolicy ep = new AllYearsTeachersPolicy(2.5);
+        CohortTable table = CohortTable.fromStudents(cohort);
+
+        List<GradeResult> fromTable = calc.calculateFinalGrades(table, ap, ep, true, true);
+        for (int i = 0; i < cohort.size(); i++) {
+            GradeResult expected = calc.calculateFinalGrade(cohort.get(i), ap, ep, true);
+            assertEquals(expected, fromTable.get(i));
+            assertEquals(expected, calc.calculateFinalGrade(table, i, ap, ep, true));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> calc.calculateFinalGrade(table, cohort.size(), ap, ep, true));
+    }
+
+    @Test
+    void primitiveSinksShouldMatchGradeResults() {
+        List<Student> cohort = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Student s = new Student("p" + i);
+            for (int j = 0; j < i % 6; j++) {
+                s.addEvaluation(new Evaluation((i * 17 + j * 3) % 101, 10.0 + j));
+            }
+            s.setHasReachedMinClasses(i % 3 != 0);
+            cohort.add(s);
+        }
+        GradingPlan plan = GradingPlan.compile(new DefaultAttendancePolicy(5.0), new AllYearsTeachersPolicy(2.5));
+        CohortTable table = CohortTable.fromStudents(cohort);
+        int n = cohort.size();
+        int stride = GradeCalculator.RESULT_STRIDE;
+
+        double[] sink = new double[1 + n * stride];
+        calc.writeResults(table, plan, true, sink, 1);
+        DoubleBuffer buffer = DoubleBuffer.allocate(n * stride);
+        calc.writeResults(table, plan, true, buffer);
+        double[] finals = new double[n];
+        calc.writeFinalGrades(table, plan, true, finals, 0);
+        double[] single = new double[stride];
+
+        for (int i = 0; i < n; i++) {
+            GradeResult expected = calc.calculateFinalGrade(cohort.get(i), plan, true);
+            int base = 1 + i * stride;
+            assertEquals(expected.getWeightedAverage(), sink[base + GradeCalculator.WEIGHTED_AVERAGE_SLOT]);
+            assertEquals(expected.getPenalty(), sink[base + GradeCalculator.PENALTY_SLOT]);
+            assertEquals(expected.getExtraPoints(), sink[base + GradeCalculator.EXTRA_POINTS_SLOT]);
+            assertEquals(expected.getFinalGrade(), sink[base + GradeCalculator.FINAL_GRADE_SLOT]);
+            assertEquals(expected.getFinalGrade(), buffer.get(i * stride + GradeCalculator.FINAL_GRADE_SLOT));
+            assertEquals(expected.getFinalGrade(), finals[i]);
+
+            calc.writeResult(cohort.get(i), plan, true, single, 0);
+            assertArrayEquals(Arrays.copyOfRange(sink, base, base + stride), single);
+        }
+        assertEquals(0, buffer.remaining());
+    }
+
+    @Test
+    void primitiveSinksShouldRejectTooSmallDestinations() {
+        GradingPlan plan = GradingPlan.compile(new DefaultAttendancePolicy(5.0), new AllYearsTeachersPolicy(2.5));
+        CohortTable table = CohortTable.fromStudents(List.of(new Student("a"), new Student("b")));
+
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> calc.writeResults(table, plan, false, new double[2 * GradeCalculator.RESULT_STRIDE], 1));
+        assertThrows(BufferOverflowException.class,
+                () -> calc.writeResults(table, plan, false, DoubleBuffer.allocate(GradeCalculator.RESULT_STRIDE)));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> calc.writeFinalGrades(table, plan, false, new double[1], 0));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> calc.writeResult(new Student("a"), plan, false, new double[3], 0));
+    }
+
+    @Test
+    void fixedPointModeShouldBeOrderIndependentAndMatchFloatingPoint() {
+        GradeCalculator fixed = new GradeCalculator(GradingMetrics.NOOP, GradingMode.FIXED_POINT);
+        assertEquals(GradingMode.FIXED_POINT, fixed.getMode());
+        assertEquals(GradingMode.FLOATING_POINT, calc.getMode());
+        AttendancePolicy ap = new DefaultAttendancePolicy(5.0);
+        ExtraPointsPolicy ep = new AllYearsTeachersPolicy(2.5);
+        Random random = new Random(11);
+
+        for (int round = 0; round < 200; round++) {
+            List<Evaluation> evaluations = new ArrayList<>();
+            int count = 1 + random.nextInt(Student.MAX_EVALUATIONS);
+            for (int j = 0; j < count; j++) {
+                // Datos con centésimas, como los ingresa un docente
+                evaluations.add(new Evaluation(random.nextInt(10_001) / 100.0, random.nextInt(10_001) / 100.0));
+            }
+            Student forward = new Student("f");
+            evaluations.forEach(forward::addEvaluation);
+            Collections.shuffle(evaluations, random);
+            Student shuffled = new Student("f");
+            evaluations.forEach(shuffled::addEvaluation);
+
+            GradeResult a = fixed.calculateFinalGrade(forward, ap, ep, true);
+            GradeResult b = fixed.calculateFinalGrade(shuffled, ap, ep, true);
+            assertEquals(a.getWeightedAverage(), b.getWeightedAverage(), 0.0);
+            assertEquals(a, b);
+            assertEquals(calc.calculateFinalGrade(forward, ap, ep, true).getWeightedAverage(),
+                    a.getWeightedAverage(), 1e-9);
+
+            CohortTable table = CohortTable.fromStudents(List.of(shuffled));
+            assertEquals(a, fixed.calculateFinalGrade(table, 0, ap, ep, true));
+            double[] sink = new double[GradeCalculator.RESULT_STRIDE];
+            fixed.writeResult(forward, GradingPlan.compile(ap, ep), true, sink, 0);
+            assertEquals(a.getFinalGrade(), sink[GradeCalculator.FINAL_GRADE_SLOT], 0.0);
+        }
+    }
+
+    @Test
+    void fixedPointModeShouldRoundInputsToHundredths() {
+        GradeCalculator fixed = new GradeCalculator(GradingMetrics.NOOP, GradingMode.FIXED_POINT);
+        Student s = new Student("r");
+        s.addEvaluation(new Evaluation(80.004, 1.0));
+        s.addEvaluation(new Evaluation(0.0, 0.001));
+
+        GradeResult r = fixed.calculateFinalGrade(s, new DefaultAttendancePolicy(0.0), new AllYearsTeachersPolicy(0.0), false);
+
+        assertEquals(80.0, r.getWeightedAverage(), 0.0);
+        assertTrue(r.getDetail().contains("sumWeights=1.0000"), r.getDetail());
+        assertThrows(NullPointerException.class, () -> new GradeCalculator(GradingMetrics.NOOP, null));
+    }
+
+    @Test
+    void courseSchemaShouldMatchStudentPath() {
+        Random random = new Random(24);
+        AttendancePolicy ap = new DefaultAttendancePolicy(7.5);
+        ExtraPointsPolicy ep = new AllYearsTeachersPolicy(2.0);
+        GradingPlan plan = GradingPlan.compile(ap, ep);
+        GradeCalculator fixed = new GradeCalculator(GradingMetrics.NOOP, GradingMode.FIXED_POINT);
+
+        for (int round = 0; round < 200; round++) {
+            double[] weights = new double[1 + random.nextInt(Student.MAX_EVALUATIONS)];
+            double[] scores = new double[weights.length];
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = Math.round(random.nextDouble() * 10000.0) / 100.0;
+                scores[i] = Math.round(random.nextDouble() * 10000.0) / 100.0;
+            }
+            CourseSchema schema = CourseSchema.of(weights);
+            boolean reached = random.nextBoolean();
+            Student s = schema.toStudent("s" + round, scores, reached);
+
+            GradeResult viaSchema = calc.calculateFinalGrade(schema, scores, reached, plan, true);
+            GradeResult viaStudent = calc.calculateFinalGrade(s, plan, true);
+            assertEquals(viaStudent, viaSchema);
+            assertEquals(viaStudent.getDetail(), viaSchema.getDetail());
+
+            assertEquals(fixed.calculateFinalGrade(s, plan, true),
+                    fixed.calculateFinalGrade(schema, scores, reached, plan, true));
+        }
+    }
+
+    @Test
+    void courseSchemaBatchShouldGradeEachRowAndRejectCustomExtraPoints() {
+        CourseSchema schema = CourseSchema.of(40.0, 60.0);
+        GradingPlan plan = GradingPlan.compile(new DefaultAttendancePolicy(10.0), new AllYearsTeachersPolicy(1.0));
+
+        List<GradeResult> results = calc.calculateFinalGrades(schema,
+                new double[][]{{50.0, 100.0}, {0.0, 0.0}}, new boolean[]{true, false}, plan, true);
+
+        assertEquals(2, results.size());
+        assertEquals(81.0, results.get(0).getFinalGrade(), 1e-9);
+        assertEquals(0.0, results.get(1).getFinalGrade(), 0.0);
+        assertThrows(IllegalArgumentException.class, () -> calc.calculateFinalGrades(schema,
+                new double[][]{{50.0, 100.0}}, new boolean[0], plan, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> calc.calculateFinalGrade(schema, new double[]{50.0}, true, plan, false));
+
+        // Sin Student no hay nada que pasarle a una política propia
+        GradingPlan custom = GradingPlan.compile(new DefaultAttendancePolicy(10.0), (allYearsTeachers, student) -> 1.0);
+        assertThrows(IllegalArgumentException.class,
+                () -> calc.calculateFinalGrade(schema, new double[]{50.0, 100.0}, true, custom, true));
+        assertThrows(IllegalArgumentException.class, () -> calc.calculateFinalGrades(schema,
+                new double[][]{{50.0, 100.0}}, new boolean[]{true}, custom, true));
+    }
+
+    @Test
+    void columnarPathsShouldPassTheRowAsStudentToCustomExtraPoints() {
+        List<Student> cohort = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Student s = new Student("row" + i);
+            for (int j = 0; j <= i; j++) {
+                s.addEvaluation(new Evaluation(40.0 + 10 * j, 1.0 + j));
+            }
+            s.setHasReachedMinClasses(i % 2 == 0);
+            cohort.add(s);
+        }
+        // Un punto extra por evaluación: depende del estudiante, como permite el contrato
+        ExtraPointsPolicy ep = (allYearsTeachers, student) -> student.getEvaluations().size();
+        AttendancePolicy ap = new DefaultAttendancePolicy(5.0);
+        GradingPlan plan = GradingPlan.compile(ap, ep);
+        CohortTable table = CohortTable.fromStudents(cohort);
+
+        List<GradeResult> results = calc.calculateFinalGrades(table, ap, ep, true, false);
+        double[] finals = new double[cohort.size()];
+        calc.writeFinalGrades(table, plan, true, finals, 0);
+        for (int i = 0; i < cohort.size(); i++) {
+            GradeResult expected = calc.calculateFinalGrade(cohort.get(i), plan, true);
+            assertEquals(i + 1.0, expected.getExtraPoints(), 0.0);
+            assertEquals(expected, results.get(i));
+            assertEquals(expected.getFinalGrade(), finals[i], 0.0);
+        }
+    }
+
+    @Test
+    void compensatedSummationShouldDifferFromNaiveSumInTheLastDigits() {
+        // Desde la suma compensada (WeightedSum) este caso cambia respecto de la suma ingenua original:
+        // sum(score*weight)=12920.62, sum(weight)=181.3 -> valor exacto 71.2665195808052951...
+        double[][] evaluations = {{72.6, 52.8}, {76.4, 93.9}, {55.3, 34.6}};
+        Student s = new Student("k");
+        double naiveWeightedScores = 0.0;
+        double naiveWeights = 0.0;
+        for (double[] e : evaluations) {
+            s.addEvaluation(new Evaluation(e[0], e[1]));
+            naiveWeightedScores += e[0] * e[1];
+            naiveWeights += e[1];
+        }
+        AttendancePolicy ap = new DefaultAttendancePolicy(0.0);
+        ExtraPointsPolicy ep = new AllYearsTeachersPolicy(0.0);
+
+        GradeResult r = calc.calculateFinalGrade(s, ap, ep, false);
+
+        assertEquals(71.2665195808053, naiveWeightedScores / naiveWeights, 0.0);
+        assertEquals(71.26651958080528, r.getWeightedAverage(), 0.0);
+        assertEquals(71.26651958080528, r.getFinalGrade(), 0.0);
+        assertEquals(r, calc.calculateFinalGrade(CohortTable.fromStudents(List.of(s)), 0, ap, ep, false));
+    }
 }
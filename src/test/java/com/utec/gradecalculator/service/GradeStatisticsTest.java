@@ -0,0 +1,87 @@
+package com.utec.gradecalculator.service;
+
+import com.utec.gradecalculator.domain.GradeResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradeStatisticsTest {
+
+    @Test
+    void shouldMatchTwoPassComputation() {
+        double[] grades = new Random(42).doubles(5_000, 0.0, 100.0).toArray();
+        GradeStatistics stats = new GradeStatistics(60.0);
+        for (double g : grades) {
+            stats.accept(g);
+        }
+
+        double mean = Arrays.stream(grades).average().orElseThrow();
+        double variance = Arrays.stream(grades).map(g -> (g - mean) * (g - mean)).sum() / grades.length;
+        long passed = Arrays.stream(grades).filter(g -> g >= 60.0).count();
+
+        assertEquals(grades.length, stats.getCount());
+        assertEquals(mean, stats.getMean(), 1e-9);
+        assertEquals(variance, stats.getVariance(), 1e-6);
+        assertEquals(Math.sqrt(variance), stats.getStandardDeviation(), 1e-9);
+        assertEquals(Arrays.stream(grades).min().orElseThrow(), stats.getMin(), 0.0);
+        assertEquals(Arrays.stream(grades).max().orElseThrow(), stats.getMax(), 0.0);
+        assertEquals(passed, stats.getPassedCount());
+        assertEquals((double) passed / grades.length, stats.getPassRate(), 0.0);
+        assertEquals(grades.length, Arrays.stream(stats.getHistogram()).sum());
+
+        double[] sorted = grades.clone();
+        Arrays.sort(sorted);
+        for (double p : new double[]{1.0, 25.0, 50.0, 90.0, 99.0, 100.0}) {
+            double exact = sorted[(int) Math.max(0, Math.ceil(p / 100.0 * sorted.length) - 1)];
+            assertEquals(exact, stats.getPercentile(p), 1.0, "p" + p);
+        }
+    }
+
+    @Test
+    void combineShouldEqualSingleAccumulator() {
+        double[] grades = new Random(7).doubles(1_000, 0.0, 100.0).toArray();
+        GradeStatistics all = new GradeStatistics(55.0);
+        GradeStatistics left = new GradeStatistics(55.0);
+        GradeStatistics right = new GradeStatistics(55.0);
+        for (int i = 0; i < grades.length; i++) {
+            all.accept(grades[i]);
+            (i < 300 ? left : right).accept(grades[i]);
+        }
+        left.combine(right);
+        left.combine(new GradeStatistics(55.0));
+
+        assertEquals(all.getCount(), left.getCount());
+        assertEquals(all.getMean(), left.getMean(), 1e-9);
+        assertEquals(all.getVariance(), left.getVariance(), 1e-6);
+        assertEquals(all.getMin(), left.getMin(), 0.0);
+        assertEquals(all.getMax(), left.getMax(), 0.0);
+        assertEquals(all.getPassedCount(), left.getPassedCount());
+        assertArrayEquals(all.getHistogram(), left.getHistogram());
+        assertThrows(IllegalArgumentException.class, () -> left.combine(new GradeStatistics(60.0)));
+    }
+
+    @Test
+    void emptyAndBoundaryValues() {
+        GradeStatistics stats = new GradeStatistics(60.0);
+        assertEquals(0.0, stats.getMean(), 0.0);
+        assertEquals(0.0, stats.getMin(), 0.0);
+        assertEquals(0.0, stats.getPercentile(50.0), 0.0);
+        assertEquals(0.0, stats.getPassRate(), 0.0);
+
+        stats.accept(100.0);
+        stats.accept(new GradeResult(0.0, 0.0, 0.0, 0.0, "d"));
+        long[] histogram = stats.getHistogram();
+        assertEquals(1, histogram[0]);
+        assertEquals(1, histogram[GradeStatistics.BUCKETS - 1]);
+        assertEquals(100.0, stats.getPercentile(100.0), 0.0);
+        assertEquals(0.5, stats.getPassRate(), 0.0);
+
+        assertThrows(IllegalArgumentException.class, () -> stats.accept(100.5));
+        assertThrows(IllegalArgumentException.class, () -> stats.accept(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> stats.getPercentile(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> new GradeStatistics(Double.NaN));
+    }
+}
@@ -0,0 +1,78 @@
+package com.utec.gradecalculator.service;
+
+import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.policy.AllYearsTeachersPolicy;
+import com.utec.gradecalculator.policy.AttendancePolicy;
+import com.utec.gradecalculator.policy.DefaultAttendancePolicy;
+import com.utec.gradecalculator.policy.ExtraPointsPolicy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradingPlanTest {
+
+    private final GradeCalculator calc = new GradeCalculator();
+
+    @Test
+    void knownPoliciesShouldReduceToConstants() {
+        GradingPlan plan = GradingPlan.compile(new DefaultAttendancePolicy(5.0), new AllYearsTeachersPolicy(2.5));
+
+        assertTrue(plan.isConstantPenalty());
+        assertTrue(plan.isConstantExtraPoints());
+        assertEquals(0.0, plan.penalty(true, 80.0), 0.0);
+        assertEquals(5.0, plan.penalty(false, 80.0), 0.0);
+        assertEquals(2.5, plan.extraPoints(true, null), 0.0);
+        assertEquals(0.0, plan.extraPoints(false, null), 0.0);
+    }
+
+    @Test
+    void customPoliciesShouldBeInvokedOnEveryCall() {
+        AttendancePolicy proportional = (reached, avg) -> reached ? 0.0 : avg / 10.0;
+        ExtraPointsPolicy byId = (all, student) -> student != null && student.getId().startsWith("x") ? 1.0 : 0.0;
+        GradingPlan plan = GradingPlan.compile(proportional, byId);
+
+        assertFalse(plan.isConstantPenalty());
+        assertFalse(plan.isConstantExtraPoints());
+        assertEquals(8.0, plan.penalty(false, 80.0), 1e-12);
+        assertEquals(1.0, plan.extraPoints(false, new Student("x1")), 0.0);
+        assertSame(proportional, plan.getAttendancePolicy());
+        assertSame(byId, plan.getExtraPointsPolicy());
+    }
+
+    @Test
+    void customPoliciesReturningInvalidValuesShouldFail() {
+        GradingPlan badPenalty = GradingPlan.compile((r, a) -> Double.NaN, new AllYearsTeachersPolicy(0.0));
+        GradingPlan badExtra = GradingPlan.compile(new DefaultAttendancePolicy(0.0), (a, s) -> -1.0);
+
+        assertThrows(IllegalStateException.class, () -> badPenalty.penalty(true, 50.0));
+        assertThrows(IllegalStateException.class, () -> badExtra.extraPoints(true, null));
+
+        Student s = new Student("s");
+        assertThrows(IllegalStateException.class, () -> calc.calculateFinalGrade(s, badPenalty, false));
+        assertThrows(IllegalStateException.class, () -> calc.calculateFinalGrade(s, badExtra, false));
+    }
+
+    @Test
+    void calculatorShouldGiveSameResultWithPlanOrPolicies() {
+        Student s = new Student("s");
+        s.addEvaluation(new Evaluation(72.5, 40.0));
+        s.addEvaluation(new Evaluation(64.0, 60.0));
+        AttendancePolicy ap = new DefaultAttendancePolicy(3.0);
+        ExtraPointsPolicy ep = new AllYearsTeachersPolicy(2.0);
+        GradingPlan plan = GradingPlan.compile(ap, ep);
+
+        for (boolean reached : new boolean[]{true, false}) {
+            s.setHasReachedMinClasses(reached);
+            for (boolean all : new boolean[]{true, false}) {
+                assertEquals(calc.calculateFinalGrade(s, ap, ep, all), calc.calculateFinalGrade(s, plan, all));
+            }
+        }
+    }
+
+    @Test
+    void compileShouldRejectNullPolicies() {
+        assertThrows(NullPointerException.class, () -> GradingPlan.compile(null, new AllYearsTeachersPolicy(0.0)));
+        assertThrows(NullPointerException.class, () -> GradingPlan.compile(new DefaultAttendancePolicy(0.0), null));
+    }
+}
@@ -0,0 +1,332 @@
+package com.utec.gradecalculator.service;
+
+import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.GradeResult;
+import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.policy.AllYearsTeachersPolicy;
+import com.utec.gradecalculator.policy.AttendancePolicy;
+import com.utec.gradecalculator.policy.DefaultAttendancePolicy;
+import com.utec.gradecalculator.policy.ExtraPointsPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradingProcessorTest {
+
+    private final GradeCalculator calc = new GradeCalculator();
+    private final AttendancePolicy ap = new DefaultAttendancePolicy(5.0);
+    private final ExtraPointsPolicy ep = new AllYearsTeachersPolicy(2.5);
+
+    private static List<Student> cohort(int n) {
+        List<Student> cohort = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            Student s = new Student("s" + i);
+            s.addEvaluation(new Evaluation(i % 101, 1.0 + i % 7));
+            s.setHasReachedMinClasses(i % 3 != 0);
+            cohort.add(s);
+        }
+        return cohort;
+    }
+
+    /**
+     * Publicador que entrega solo lo pedido y cuenta la demanda total recibida.
+     */
+    private static final class ListPublisher implements Flow.Publisher<Student> {
+        private final List<Student> items;
+        private final AtomicLong requested = new AtomicLong();
+        private final RuntimeException failAtEnd;
+        private int next;
+        private long delivered;
+        private boolean done;
+        private volatile boolean cancelled;
+
+        ListPublisher(List<Student> items, RuntimeException failAtEnd) {
+            this.items = items;
+            this.failAtEnd = failAtEnd;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Student> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requested.addAndGet(n);
+                    deliver(subscriber);
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                    synchronized (ListPublisher.this) {
+                        done = true;
+                    }
+                }
+            });
+        }
+
+        private synchronized void deliver(Flow.Subscriber<? super Student> subscriber) {
+            while (!done && next < items.size() && delivered < requested.get()) {
+                delivered++;
+                subscriber.onNext(items.get(next++));
+            }
+            if (!done && next == items.size()) {
+                done = true;
+                if (failAtEnd != null) {
+                    subscriber.onError(failAtEnd);
+                } else {
+                    subscriber.onComplete();
+                }
+            }
+        }
+    }
+
+    /**
+     * Ejecutor manual: las tareas se ejecutan en el hilo del test solo cuando este lo decide.
+     */
+    private static final class ManualExecutor implements Executor {
+        private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+        private boolean rejecting;
+
+        @Override
+        public synchronized void execute(Runnable task) {
+            if (rejecting) {
+                throw new RejectedExecutionException("executor shut down");
+            }
+            tasks.add(task);
+        }
+
+        synchronized void setRejecting(boolean rejecting) {
+            this.rejecting = rejecting;
+        }
+
+        synchronized int pending() {
+            return tasks.size();
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = poll()) != null) {
+                task.run();
+            }
+        }
+
+        private synchronized Runnable poll() {
+            return tasks.poll();
+        }
+    }
+
+    private static void await(BooleanSupplier condition, String description) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("timed out waiting for " + description);
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private static final class Collector implements Flow.Subscriber<GradeResult> {
+        private final List<GradeResult> results = Collections.synchronizedList(new ArrayList<>());
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private final long initialDemand;
+        private volatile Flow.Subscription subscription;
+
+        Collector(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(GradeResult item) {
+            results.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(null);
+        }
+    }
+
+    @Test
+    void orderedModeShouldPreserveInputOrder() throws Exception {
+        List<Student> cohort = cohort(500);
+        GradingProcessor processor = new GradingProcessor(calc, ap, ep, true, 8, true);
+        Collector collector = new Collector(Long.MAX_VALUE);
+        processor.subscribe(collector);
+        new ListPublisher(cohort, null).subscribe(processor);
+
+        collector.done.get(10, TimeUnit.SECONDS);
+        assertEquals(cohort.size(), collector.results.size());
+        for (int i = 0; i < cohort.size(); i++) {
+            assertEquals(calc.calculateFinalGrade(cohort.get(i), ap, ep, true), collector.results.get(i));
+        }
+    }
+
+    @Test
+    void unorderedModeShouldEmitEveryResult() throws Exception {
+        List<Student> cohort = cohort(500);
+        GradingProcessor processor = new GradingProcessor(calc, ap, ep, false, 8, false);
+        Collector collector = new Collector(Long.MAX_VALUE);
+        processor.subscribe(collector);
+        new ListPublisher(cohort, null).subscribe(processor);
+
+        collector.done.get(10, TimeUnit.SECONDS);
+        List<GradeResult> expected = new ArrayList<>(calc.calculateFinalGrades(cohort, ap, ep, false));
+        List<GradeResult> actual = new ArrayList<>(collector.results);
+        Comparator<GradeResult> byDetail = Comparator.comparing(GradeResult::getDetail);
+        expected.sort(byDetail);
+        actual.sort(byDetail);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void demandShouldBeParallelismPlusPublishedResults() throws Exception {
+        List<Student> cohort = cohort(50);
+        ManualExecutor executor = new ManualExecutor();
+        ListPublisher source = new ListPublisher(cohort, null);
+        GradingProcessor processor = new GradingProcessor(calc, ap, ep, true, 4, true, executor, 16);
+        Collector collector = new Collector(Long.MAX_VALUE);
+        processor.subscribe(collector);
+        source.subscribe(processor);
+
+        // Nada se calculó todavía: solo se pidieron parallelism estudiantes
+        assertEquals(4, source.requested.get());
+        assertTrue(executor.pending() >= 4);
+
+        executor.runAll();
+
+        assertTrue(collector.done.isDone());
+        collector.done.get();
+        assertEquals(4 + cohort.size(), source.requested.get());
+        assertEquals(cohort.size(), collector.results.size());
+        for (int i = 0; i < cohort.size(); i++) {
+            assertEquals(calc.calculateFinalGrade(cohort.get(i), ap, ep, true), collector.results.get(i));
+        }
+    }
+
+    @Test
+    void slowSubscriberShouldThrottleUpstream() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            ListPublisher source = new ListPublisher(cohort(1_000), null);
+            GradingProcessor processor = new GradingProcessor(calc, ap, ep, false, 4, true, executor, 4);
+            int capacity = processor.getMaxBufferCapacity();
+            Collector collector = new Collector(0);
+            processor.subscribe(collector);
+            source.subscribe(processor);
+
+            // Con el buffer del suscriptor lleno submit se bloquea: la demanda se detiene en
+            // parallelism + resultados publicados, y cada elemento consumido libera exactamente un pedido
+            await(() -> source.requested.get() == 4 + capacity, "subscriber buffer to fill");
+            assertTrue(collector.results.isEmpty());
+            collector.subscription.request(1);
+            await(() -> collector.results.size() == 1 && source.requested.get() == 4 + capacity + 1,
+                    "one more upstream request");
+
+            collector.subscription.request(Long.MAX_VALUE);
+            collector.done.get(10, TimeUnit.SECONDS);
+            assertEquals(1_000, collector.results.size());
+            assertEquals(4 + 1_000, source.requested.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void upstreamErrorShouldBePropagatedAfterPublishingInFlightResults() {
+        List<Student> cohort = cohort(10);
+        IllegalStateException upstream = new IllegalStateException("source failed");
+        ManualExecutor executor = new ManualExecutor();
+        ListPublisher source = new ListPublisher(cohort, upstream);
+        GradingProcessor processor = new GradingProcessor(calc, ap, ep, false, 2, true, executor, 16);
+        Collector collector = new Collector(Long.MAX_VALUE);
+        processor.subscribe(collector);
+        source.subscribe(processor);
+
+        executor.runAll();
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> collector.done.get());
+        assertSame(upstream, ex.getCause());
+        // Todos los estudiantes recibidos se calcularon y publicaron (un pedido por publicación)
+        assertEquals(2 + cohort.size(), source.requested.get());
+        // closeExceptionally puede descartar lo que quedaba en el buffer: lo entregado es un prefijo ordenado
+        List<GradeResult> received = new ArrayList<>(collector.results);
+        for (int i = 0; i < received.size(); i++) {
+            assertEquals(calc.calculateFinalGrade(cohort.get(i), ap, ep, false), received.get(i));
+        }
+    }
+
+    @Test
+    void gradingFailuresShouldCancelUpstreamAndCloseExceptionally() {
+        for (AttendancePolicy failingPolicy : List.<AttendancePolicy>of(
+                (reached, avg) -> Double.NaN,
+                (reached, avg) -> {
+                    throw new AssertionError("broken policy");
+                })) {
+            ManualExecutor executor = new ManualExecutor();
+            ListPublisher source = new ListPublisher(cohort(10), null);
+            GradingProcessor failing = new GradingProcessor(calc, failingPolicy, ep, false, 2, true, executor, 16);
+            Collector failed = new Collector(Long.MAX_VALUE);
+            failing.subscribe(failed);
+            source.subscribe(failing);
+
+            executor.runAll();
+
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> failed.done.get());
+            assertTrue(ex.getCause() instanceof IllegalStateException || ex.getCause() instanceof AssertionError,
+                    String.valueOf(ex.getCause()));
+            assertTrue(source.cancelled);
+            assertTrue(failed.results.isEmpty());
+            assertEquals(2, source.requested.get());
+        }
+    }
+
+    @Test
+    void rejectedGradingTasksShouldCloseExceptionally() {
+        ManualExecutor executor = new ManualExecutor();
+        ListPublisher source = new ListPublisher(cohort(10), null);
+        GradingProcessor processor = new GradingProcessor(calc, ap, ep, false, 2, true, executor, 16);
+        Collector collector = new Collector(Long.MAX_VALUE);
+        processor.subscribe(collector);
+
+        executor.setRejecting(true);
+        assertDoesNotThrow(() -> source.subscribe(processor));
+        executor.setRejecting(false);
+        executor.runAll();
+
+        assertTrue(processor.isClosed());
+        assertInstanceOf(RejectedExecutionException.class, processor.getClosedException());
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> collector.done.get());
+        assertInstanceOf(RejectedExecutionException.class, ex.getCause());
+        assertTrue(source.cancelled);
+        assertTrue(collector.results.isEmpty());
+    }
+}
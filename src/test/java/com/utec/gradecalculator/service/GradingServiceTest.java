@@ -0,0 +1,117 @@
+package com.utec.gradecalculator.service;
+
+import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.GradeResult;
+import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.policy.AllYearsTeachersPolicy;
+import com.utec.gradecalculator.policy.AttendancePolicy;
+import com.utec.gradecalculator.policy.DefaultAttendancePolicy;
+import com.utec.gradecalculator.policy.ExtraPointsPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradingServiceTest {
+
+    private final GradeCalculator calc = new GradeCalculator();
+    private final AttendancePolicy ap = new DefaultAttendancePolicy(5.0);
+    private final ExtraPointsPolicy ep = new AllYearsTeachersPolicy(2.5);
+
+    private static Student student(String id) {
+        Student s = new Student(id);
+        s.addEvaluation(new Evaluation(80.0, 50.0));
+        s.addEvaluation(new Evaluation(90.0, 50.0));
+        s.setHasReachedMinClasses(true);
+        return s;
+    }
+
+    @Test
+    void shouldCompleteWithSameResultAsSynchronousCalculation() throws Exception {
+        try (GradingService service = new GradingService(calc, 4, 100)) {
+            List<CompletableFuture<GradeResult>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(service.submit(student("s" + i), ap, ep, i % 2 == 0));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                GradeResult expected = calc.calculateFinalGrade(student("s" + i), ap, ep, i % 2 == 0);
+                assertEquals(expected, futures.get(i).get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(104, service.availableCapacity());
+        }
+    }
+
+    @Test
+    void shouldRejectWhenSaturatedAndRecoverAfterwards() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AttendancePolicy blocking = (reached, avg) -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return 0.0;
+        };
+
+        try (GradingService service = new GradingService(calc, 1, 1)) {
+            CompletableFuture<GradeResult> running = service.submit(student("a"), blocking, ep, false);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<GradeResult> queued = service.submit(student("b"), ap, ep, false);
+
+            CompletableFuture<GradeResult> rejected = service.trySubmit(student("c"), ap, ep, false);
+            ExecutionException ex = assertThrows(ExecutionException.class, rejected::get);
+            assertInstanceOf(RejectedExecutionException.class, ex.getCause());
+
+            CompletableFuture<GradeResult> timedOut = service.submit(student("d"), ap, ep, false, 10, TimeUnit.MILLISECONDS);
+            assertTrue(timedOut.isCompletedExceptionally());
+
+            release.countDown();
+            assertEquals(85.0, running.get(5, TimeUnit.SECONDS).getFinalGrade(), 1e-9);
+            assertEquals(85.0, queued.get(5, TimeUnit.SECONDS).getFinalGrade(), 1e-9);
+            assertEquals(85.0, service.trySubmit(student("e"), ap, ep, false).get(5, TimeUnit.SECONDS).getFinalGrade(), 1e-9);
+        }
+    }
+
+    @Test
+    void shouldPropagatePolicyFailuresThroughFuture() throws Exception {
+        AttendancePolicy invalid = (reached, avg) -> -1.0;
+        try (GradingService service = new GradingService(calc, 2, 2)) {
+            CompletableFuture<GradeResult> f = service.submit(student("a"), invalid, ep, false);
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> f.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, ex.getCause());
+            assertEquals(4, service.availableCapacity());
+        }
+    }
+
+    @Test
+    void shouldCompleteFutureWhenPolicyThrowsError() throws Exception {
+        AttendancePolicy broken = (reached, avg) -> {
+            throw new AssertionError("broken policy");
+        };
+        try (GradingService service = new GradingService(calc, 2, 2)) {
+            CompletableFuture<GradeResult> f = service.submit(student("a"), broken, ep, false);
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> f.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(AssertionError.class, ex.getCause());
+            assertEquals(4, service.availableCapacity());
+        }
+    }
+
+    @Test
+    void shouldValidateArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new GradingService(calc, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new GradingService(calc, 1, -1));
+        try (GradingService service = new GradingService(calc, 1, 0)) {
+            assertThrows(NullPointerException.class, () -> service.trySubmit(null, ap, ep, false));
+            assertEquals(TaskExecutors.virtualThreadsAvailable(), service.usesVirtualThreads());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.utec.gradecalculator.service;
+
+import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.GradeResult;
+import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.policy.AllYearsTeachersPolicy;
+import com.utec.gradecalculator.policy.AttendancePolicy;
+import com.utec.gradecalculator.policy.DefaultAttendancePolicy;
+import com.utec.gradecalculator.policy.ExtraPointsPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalRegraderTest {
+
+    private final GradeCalculator calc = new GradeCalculator();
+    private final AttendancePolicy ap = new DefaultAttendancePolicy(5.0);
+    private final ExtraPointsPolicy ep = new AllYearsTeachersPolicy(2.5);
+
+    private List<Student> cohort() {
+        List<Student> cohort = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Student s = new Student("s" + i);
+            s.addEvaluation(new Evaluation(50.0 + i, 50.0));
+            s.addEvaluation(new Evaluation(70.0, 50.0));
+            s.setHasReachedMinClasses(true);
+            cohort.add(s);
+        }
+        return cohort;
+    }
+
+    @Test
+    void onlyAffectedStudentsShouldBeEmitted() {
+        List<Student> cohort = cohort();
+        IncrementalRegrader regrader = new IncrementalRegrader(calc, ap, ep, cohort, false);
+
+        regrader.append(EvaluationChange.corrected("s1", 0, new Evaluation(90.0, 50.0)));
+        regrader.append(EvaluationChange.added("s3", new Evaluation(100.0, 100.0)));
+        regrader.append(EvaluationChange.removed("s1", 1));
+        assertEquals(2, regrader.pendingCount());
+
+        List<GradeDelta> deltas = new ArrayList<>();
+        assertEquals(2, regrader.drain(deltas::add));
+        assertEquals(0, regrader.pendingCount());
+
+        assertEquals("s1", deltas.get(0).getStudentId());
+        assertEquals(90.0, deltas.get(0).getCurrent().getFinalGrade(), 1e-9);
+        assertEquals(29.5, deltas.get(0).getFinalGradeChange(), 1e-9);
+        assertEquals("s3", deltas.get(1).getStudentId());
+
+        Student expected = cohort.get(3);
+        expected.addEvaluation(new Evaluation(100.0, 100.0));
+        GradeResult full = calc.calculateFinalGrade(expected, ap, ep, false);
+        assertEquals(full, deltas.get(1).getCurrent());
+        assertEquals(full, regrader.getResult("s3"));
+        // La cohorte original no se usa después de construir el regrader
+        assertEquals(2, cohort.get(1).getEvaluations().size());
+    }
+
+    @Test
+    void unchangedResultsShouldNotBeEmitted() {
+        IncrementalRegrader regrader = new IncrementalRegrader(calc, ap, ep, cohort(), false);
+
+        regrader.append(EvaluationChange.corrected("s0", 1, new Evaluation(70.0, 50.0)));
+
+        assertEquals(0, regrader.drain(d -> fail("no delta expected")));
+    }
+
+    @Test
+    void invalidChangesShouldBeRejectedWithoutSideEffects() {
+        IncrementalRegrader regrader = new IncrementalRegrader(calc, ap, ep, cohort(), false);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> regrader.append(EvaluationChange.removed("unknown", 0)));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> regrader.append(EvaluationChange.corrected("s0", 7, new Evaluation(1.0, 1.0))));
+        assertEquals(0, regrader.pendingCount());
+
+        List<Student> duplicated = List.of(new Student("d"), new Student("d"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new IncrementalRegrader(calc, ap, ep, duplicated, false));
+    }
+
+    @Test
+    void failedDrainShouldKeepEveryChangePending() {
+        AtomicBoolean failing = new AtomicBoolean(false);
+        ExtraPointsPolicy flaky = (allYearsTeachers, student) -> {
+            if (failing.get() && "s3".equals(student.getId())) {
+                throw new IllegalStateException("policy unavailable");
+            }
+            return 0.0;
+        };
+        IncrementalRegrader regrader = new IncrementalRegrader(calc, ap, flaky, cohort(), false);
+        failing.set(true);
+        GradeResult before = regrader.getResult("s1");
+
+        regrader.append(EvaluationChange.corrected("s1", 0, new Evaluation(90.0, 50.0)));
+        regrader.append(EvaluationChange.corrected("s3", 0, new Evaluation(10.0, 50.0)));
+
+        assertThrows(IllegalStateException.class, () -> regrader.drain(d -> fail("no delta expected")));
+        assertEquals(2, regrader.pendingCount());
+        assertEquals(before, regrader.getResult("s1"));
+
+        failing.set(false);
+        List<GradeDelta> deltas = new ArrayList<>();
+        assertEquals(2, regrader.drain(deltas::add));
+        assertEquals("s1", deltas.get(0).getStudentId());
+        assertEquals(before, deltas.get(0).getPrevious());
+        assertEquals("s3", deltas.get(1).getStudentId());
+    }
+
+    @Test
+    void changeIdsShouldBeTrimmedLikeStudentIds() {
+        IncrementalRegrader regrader = new IncrementalRegrader(calc, ap, ep, cohort(), false);
+
+        EvaluationChange change = EvaluationChange.added("  s2 ", new Evaluation(100.0, 100.0));
+        assertEquals("s2", change.getStudentId());
+        regrader.append(change);
+
+        assertEquals(1, regrader.drain(d -> assertEquals("s2", d.getStudentId())));
+        assertEquals(regrader.getResult("s2"), regrader.getResult(" s2 "));
+    }
+}
@@ -0,0 +1,114 @@
+package com.utec.gradecalculator.service;
+
+import com.utec.gradecalculator.domain.CohortTable;
+import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.GradeResult;
+import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.policy.AllYearsTeachersPolicy;
+import com.utec.gradecalculator.policy.DefaultAttendancePolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolicySweepTest {
+
+    private final GradeCalculator calc = new GradeCalculator();
+
+    private static List<Student> cohort() {
+        List<Student> cohort = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Student s = new Student("s" + i);
+            for (int j = 0; j < i % 7; j++) {
+                s.addEvaluation(new Evaluation((i * 11 + j * 19) % 101, 5.0 + j));
+            }
+            s.setHasReachedMinClasses(i % 4 != 0);
+            cohort.add(s);
+        }
+        return cohort;
+    }
+
+    @Test
+    void everyCombinationShouldMatchGradeCalculator() {
+        List<Student> cohort = cohort();
+        double[] penalties = {0.0, 3.0, 5.0};
+        double[] extras = {2.0, 2.5};
+        PolicySweep sweep = new PolicySweep(penalties, extras, 60.0);
+
+        List<PolicySweep.Outcome> outcomes = sweep.run(cohort, true);
+        List<PolicySweep.Outcome> fromTable = sweep.run(CohortTable.fromStudents(cohort), true);
+        assertEquals(penalties.length * extras.length, outcomes.size());
+
+        int k = 0;
+        for (double penalty : penalties) {
+            for (double extra : extras) {
+                PolicySweep.Outcome outcome = outcomes.get(k);
+                assertEquals(penalty, outcome.getPenalty(), 0.0);
+                assertEquals(extra, outcome.getExtraPoints(), 0.0);
+
+                double sum = 0.0;
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                long passed = 0;
+                long[] histogram = new long[PolicySweep.HISTOGRAM_BUCKETS];
+                for (Student s : cohort) {
+                    GradeResult r = calc.calculateFinalGrade(s, new DefaultAttendancePolicy(penalty),
+                            new AllYearsTeachersPolicy(extra), true);
+                    sum += r.getFinalGrade();
+                    min = Math.min(min, r.getFinalGrade());
+                    max = Math.max(max, r.getFinalGrade());
+                    histogram[Math.min((int) (r.getFinalGrade() / 10.0), 9)]++;
+                    if (r.getFinalGrade() >= 60.0) {
+                        passed++;
+                    }
+                }
+                assertEquals(cohort.size(), outcome.getCount());
+                assertEquals(sum / cohort.size(), outcome.getMean(), 0.0);
+                assertEquals((double) passed / cohort.size(), outcome.getPassRate(), 0.0);
+                assertEquals(min, outcome.getMin(), 0.0);
+                assertEquals(max, outcome.getMax(), 0.0);
+                assertArrayEquals(histogram, outcome.getHistogram());
+                assertArrayEquals(histogram, fromTable.get(k).getHistogram());
+                assertEquals(outcome.getMean(), fromTable.get(k).getMean(), 0.0);
+                assertEquals(outcome.getStatistics().getVariance(), fromTable.get(k).getStatistics().getVariance(), 0.0);
+                k++;
+            }
+        }
+    }
+
+    @Test
+    void emptyCohortShouldYieldZeroStatistics() {
+        PolicySweep.Outcome outcome = new PolicySweep(new double[]{5.0}, new double[]{2.5}, 60.0)
+                .run(List.of(), false).get(0);
+
+        assertEquals(0, outcome.getCount());
+        assertEquals(0.0, outcome.getMean(), 0.0);
+        assertEquals(0.0, outcome.getMin(), 0.0);
+        assertEquals(0.0, outcome.getMax(), 0.0);
+    }
+
+    @Test
+    void statisticsShouldBeACopy() {
+        PolicySweep.Outcome outcome = new PolicySweep(new double[]{0.0}, new double[]{0.0}, 60.0)
+                .run(cohort(), false).get(0);
+        GradeStatistics statistics = outcome.getStatistics();
+        statistics.accept(0.0);
+        statistics.combine(outcome.getStatistics());
+
+        assertEquals(cohort().size(), outcome.getCount());
+        assertEquals(outcome.getCount(), outcome.getStatistics().getCount());
+        assertEquals(outcome.getMean(), outcome.getStatistics().getMean(), 0.0);
+        assertNotSame(outcome.getStatistics(), outcome.getStatistics());
+    }
+
+    @Test
+    void invalidGridShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new PolicySweep(new double[0], new double[]{1.0}, 60.0));
+        assertThrows(IllegalArgumentException.class, () -> new PolicySweep(new double[]{-1.0}, new double[]{1.0}, 60.0));
+        assertThrows(IllegalArgumentException.class, () -> new PolicySweep(new double[]{1.0}, new double[]{Double.NaN}, 60.0));
+        assertThrows(IllegalArgumentException.class, () -> new PolicySweep(new double[]{1.0}, new double[]{1.0}, 101.0));
+        assertThrows(NullPointerException.class, () -> new PolicySweep(null, new double[]{1.0}, 60.0));
+    }
+}
@@ -0,0 +1,99 @@
+package com.utec.gradecalculator.service;
+
+import com.utec.gradecalculator.domain.CohortTable;
+import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.policy.AllYearsTeachersPolicy;
+import com.utec.gradecalculator.policy.DefaultAttendancePolicy;
+import org.junit.jupiter.api.Test;
+
+import java.nio.DoubleBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordingGradingMetricsTest {
+
+    @Test
+    void shouldCountGradesAndPolicyFailures() {
+        RecordingGradingMetrics metrics = new RecordingGradingMetrics();
+        GradeCalculator calc = new GradeCalculator(metrics);
+        Student s = new Student("m");
+        s.addEvaluation(new Evaluation(80.0, 100.0));
+
+        calc.calculateFinalGrade(s, new DefaultAttendancePolicy(1.0), new AllYearsTeachersPolicy(1.0), true);
+        calc.calculateFinalGrades(List.of(s, s, s), new DefaultAttendancePolicy(1.0), new AllYearsTeachersPolicy(1.0), true, true);
+        assertThrows(IllegalStateException.class, () ->
+                calc.calculateFinalGrade(s, (r, a) -> -1.0, new AllYearsTeachersPolicy(1.0), true));
+        assertThrows(IllegalStateException.class, () ->
+                calc.calculateFinalGrade(s, new DefaultAttendancePolicy(1.0), (a, st) -> Double.NaN, true));
+
+        assertEquals(4, metrics.getGradesCalculated());
+        assertEquals(1, metrics.getAttendancePolicyFailures());
+        assertEquals(1, metrics.getExtraPointsPolicyFailures());
+
+        String dump = metrics.dump();
+        assertTrue(dump.contains("grades.calculated=4\n"));
+        assertTrue(dump.contains("policy.attendance.failures=1\n"));
+        assertTrue(dump.contains("grades.latency.p99_ns="));
+    }
+
+    @Test
+    void primitiveSinksShouldCountOneGradePerRow() {
+        RecordingGradingMetrics metrics = new RecordingGradingMetrics();
+        GradeCalculator calc = new GradeCalculator(metrics);
+        Student s = new Student("m");
+        s.addEvaluation(new Evaluation(80.0, 100.0));
+        CohortTable table = CohortTable.fromStudents(List.of(s, new Student("n"), new Student("o")));
+        GradingPlan plan = GradingPlan.compile(new DefaultAttendancePolicy(1.0), new AllYearsTeachersPolicy(1.0));
+
+        calc.writeResult(s, plan, true, new double[GradeCalculator.RESULT_STRIDE], 0);
+        calc.writeResults(table, plan, true, new double[3 * GradeCalculator.RESULT_STRIDE], 0);
+        calc.writeResults(table, plan, true, DoubleBuffer.allocate(3 * GradeCalculator.RESULT_STRIDE));
+        calc.writeFinalGrades(table, plan, true, new double[3], 0);
+
+        assertEquals(10, metrics.getGradesCalculated());
+    }
+
+    @Test
+    void histogramPercentilesShouldBeWithinRelativeError() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (long v = 1; v <= 10_000; v++) {
+            h.record(v);
+        }
+        assertEquals(10_000, h.getCount());
+        assertEquals(10_000, h.getMax());
+        assertEquals(5000.5, h.getMean(), 1e-9);
+
+        double tolerance = 1.0 / LatencyHistogram.SUB_BUCKETS;
+        assertEquals(5_000, h.getValueAtPercentile(50.0), 5_000 * tolerance);
+        assertEquals(9_900, h.getValueAtPercentile(99.0), 9_900 * tolerance);
+        assertEquals(10_000, h.getValueAtPercentile(100.0));
+        assertEquals(1, h.getValueAtPercentile(0.0));
+    }
+
+    @Test
+    void histogramBucketsShouldCoverWholeRange() {
+        long[] samples = {0, 1, 15, 16, 17, 31, 32, 1_000, 123_456_789L, Long.MAX_VALUE};
+        for (long v : samples) {
+            int bucket = LatencyHistogram.bucketOf(v);
+            assertTrue(LatencyHistogram.upperBoundOf(bucket) >= v, "value " + v);
+            if (bucket > 0) {
+                assertTrue(LatencyHistogram.upperBoundOf(bucket - 1) < v, "value " + v);
+            }
+        }
+    }
+
+    @Test
+    void emptyHistogramShouldReportZero() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(0, h.getValueAtPercentile(99.0));
+        assertEquals(0.0, h.getMean(), 0.0);
+        assertThrows(IllegalArgumentException.class, () -> h.getValueAtPercentile(101.0));
+    }
+
+    @Test
+    void calculatorShouldRejectNullMetrics() {
+        assertThrows(NullPointerException.class, () -> new GradeCalculator(null));
+    }
+}
@@ -0,0 +1,124 @@
+package com.utec.gradecalculator.service;
+
+import com.utec.gradecalculator.domain.CohortTable;
+import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.GradeResult;
+import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.policy.AllYearsTeachersPolicy;
+import com.utec.gradecalculator.policy.DefaultAttendancePolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightedAverageKernelTest {
+
+    private static CohortTable randomCohort(int size, long seed) {
+        Random random = new Random(seed);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Student s = new Student("k" + i);
+            int evaluations = random.nextInt(Student.MAX_EVALUATIONS + 1);
+            for (int j = 0; j < evaluations; j++) {
+                s.addEvaluation(new Evaluation(random.nextDouble() * 100.0, random.nextDouble() * 100.0));
+            }
+            students.add(s);
+        }
+        return CohortTable.fromStudents(students);
+    }
+
+    @Test
+    void vectorKernelShouldBeUsedOnlyWithTheVectorProfile() {
+        // El perfil Maven "vector" compila el kernel, agrega el módulo y define esta propiedad
+        boolean expected = Boolean.getBoolean("gradecalculator.vector");
+        assertEquals(expected, WeightedAverageKernel.vectorApiAvailable());
+        if (!expected) {
+            assertSame(WeightedAverageKernel.scalar(), WeightedAverageKernel.vectorized());
+        } else {
+            assertTrue(WeightedAverageKernel.vectorized().name().startsWith("vector-"));
+        }
+    }
+
+    @Test
+    void scalarKernelShouldMatchGradeCalculatorExactly() {
+        CohortTable cohort = randomCohort(2_000, 1);
+        double[] averages = WeightedAverageKernel.scalar().weightedAverages(cohort);
+
+        List<GradeResult> results = new GradeCalculator().calculateFinalGrades(
+                cohort, new DefaultAttendancePolicy(0.0), new AllYearsTeachersPolicy(0.0), false, false);
+        for (int i = 0; i < cohort.size(); i++) {
+            assertEquals(results.get(i).getWeightedAverage(), averages[i], 0.0);
+        }
+    }
+
+    @Test
+    void vectorAndScalarKernelsShouldAgreeWithinTolerance() {
+        for (long seed = 0; seed < 5; seed++) {
+            CohortTable cohort = randomCohort(5_000, seed);
+            double[] scalar = WeightedAverageKernel.scalar().weightedAverages(cohort);
+            double[] vector = WeightedAverageKernel.vectorized().weightedAverages(cohort);
+            for (int i = 0; i < cohort.size(); i++) {
+                assertEquals(scalar[i], vector[i], WeightedAverageKernel.VECTOR_TOLERANCE, "row " + i);
+            }
+        }
+    }
+
+    @Test
+    void vectorKernelShouldHandlePartialLaneGroupsAndRaggedRows() {
+        // Cantidades que no son múltiplo de ningún ancho de vector, con filas vacías y de distinto largo
+        for (int size = 1; size <= 40; size++) {
+            CohortTable cohort = randomCohort(size, size);
+            double[] scalar = WeightedAverageKernel.scalar().weightedAverages(cohort);
+            double[] vector = WeightedAverageKernel.vectorized().weightedAverages(cohort);
+            for (int i = 0; i < size; i++) {
+                assertEquals(scalar[i], vector[i], WeightedAverageKernel.VECTOR_TOLERANCE, "size " + size + ", row " + i);
+            }
+        }
+    }
+
+    @Test
+    void cohortKernelShouldNotModifyTheTable() {
+        CohortTable cohort = randomCohort(100, 7);
+        double[] scores = cohort.scoreColumn();
+        double[] weights = cohort.weightColumn();
+        int[] offsets = cohort.offsetColumn();
+
+        WeightedAverageKernel.vectorized().weightedAverages(cohort);
+
+        assertArrayEquals(scores, cohort.scoreColumn());
+        assertArrayEquals(weights, cohort.weightColumn());
+        assertArrayEquals(offsets, cohort.offsetColumn());
+    }
+
+    @Test
+    void shouldHandleLongRowsAndZeroWeights() {
+        int n = 1_003;
+        double[] scores = new double[n];
+        double[] weights = new double[n];
+        for (int j = 0; j < n; j++) {
+            scores[j] = j % 101;
+            weights[j] = (j % 7) * 10.0;
+        }
+        int[] offsets = {0, n, n};
+        double[] scalar = new double[2];
+        double[] vector = new double[2];
+        WeightedAverageKernel.scalar().weightedAverages(scores, weights, offsets, 2, scalar);
+        WeightedAverageKernel.vectorized().weightedAverages(scores, weights, offsets, 2, vector);
+
+        assertEquals(scalar[0], vector[0], WeightedAverageKernel.VECTOR_TOLERANCE);
+        assertEquals(0.0, scalar[1], 0.0);
+        assertEquals(0.0, vector[1], 0.0);
+    }
+
+    @Test
+    void shouldRejectInconsistentArguments() {
+        WeightedAverageKernel kernel = WeightedAverageKernel.vectorized();
+        double[] one = {1.0};
+        assertThrows(IllegalArgumentException.class, () -> kernel.weightedAverages(one, one, new int[]{0}, 1, new double[1]));
+        assertThrows(IllegalArgumentException.class, () -> kernel.weightedAverages(one, one, new int[]{0, 2}, 1, new double[1]));
+        assertThrows(NullPointerException.class, () -> kernel.weightedAverages(null, one, new int[]{0, 1}, 1, new double[1]));
+    }
+}
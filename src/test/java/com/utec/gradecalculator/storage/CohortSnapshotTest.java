@@ -0,0 +1,140 @@
+package com.utec.gradecalculator.storage;
+
+import com.utec.gradecalculator.domain.CohortTable;
+import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.GradeResult;
+import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.policy.AllYearsTeachersPolicy;
+import com.utec.gradecalculator.policy.AttendancePolicy;
+import com.utec.gradecalculator.policy.DefaultAttendancePolicy;
+import com.utec.gradecalculator.policy.ExtraPointsPolicy;
+import com.utec.gradecalculator.service.GradeCalculator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CohortSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    private static List<Student> cohort(int size) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Student s = new Student("alumno-" + i + (i % 5 == 0 ? "-ñ" : ""));
+            for (int j = 0; j < i % 11; j++) {
+                s.addEvaluation(new Evaluation((i * 17 + j * 3) % 101, 1.0 + j));
+            }
+            s.setHasReachedMinClasses(i % 4 != 0);
+            students.add(s);
+        }
+        return students;
+    }
+
+    @Test
+    void shouldRoundTripCohort() throws IOException {
+        CohortTable table = CohortTable.fromStudents(cohort(37));
+        Path file = dir.resolve("cohort.snap");
+
+        CohortSnapshot.write(table, file);
+        CohortSnapshot snapshot = CohortSnapshot.open(file);
+
+        assertEquals(table.size(), CohortSnapshot.open(file, true).size());
+        assertEquals(table.size(), snapshot.size());
+        assertEquals(table.evaluationCount(), snapshot.evaluationCount());
+        for (int i = 0; i < table.size(); i++) {
+            assertEquals(table.getId(i), snapshot.getId(i));
+            assertEquals(table.hasReachedMinClasses(i), snapshot.hasReachedMinClasses(i));
+            assertEquals(table.evaluationStart(i), snapshot.evaluationStart(i));
+            assertEquals(table.evaluationEnd(i), snapshot.evaluationEnd(i));
+        }
+        for (int j = 0; j < table.evaluationCount(); j++) {
+            assertEquals(table.getScore(j), snapshot.getScore(j), 0.0);
+            assertEquals(table.getWeight(j), snapshot.getWeight(j), 0.0);
+        }
+    }
+
+    @Test
+    void shouldGradeDirectlyFromMappedFile() throws IOException {
+        List<Student> students = cohort(60);
+        Path file = dir.resolve("cohort.snap");
+        CohortSnapshot.write(CohortTable.fromStudents(students), file);
+        CohortSnapshot snapshot = CohortSnapshot.open(file);
+
+        GradeCalculator calc = new GradeCalculator();
+        AttendancePolicy ap = new DefaultAttendancePolicy(5.0);
+        ExtraPointsPolicy ep = new AllYearsTeachersPolicy(2.5);
+        List<GradeResult> results = calc.calculateFinalGrades(snapshot, ap, ep, true, true);
+
+        for (int i = 0; i < students.size(); i++) {
+            assertEquals(calc.calculateFinalGrade(students.get(i), ap, ep, true), results.get(i));
+        }
+    }
+
+    @Test
+    void shouldHandleEmptyCohort() throws IOException {
+        Path file = dir.resolve("empty.snap");
+        CohortSnapshot.write(CohortTable.fromStudents(List.of()), file);
+        CohortSnapshot snapshot = CohortSnapshot.open(file);
+        assertEquals(0, snapshot.size());
+        assertEquals(0, snapshot.evaluationCount());
+    }
+
+    @Test
+    void shouldRejectInvalidFiles() throws IOException {
+        Path garbage = dir.resolve("garbage.snap");
+        Files.write(garbage, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+        assertThrows(IOException.class, () -> CohortSnapshot.open(garbage));
+        assertThrows(IOException.class, () -> CohortSnapshot.open(garbage, true));
+
+        Path file = dir.resolve("cohort.snap");
+        CohortSnapshot.write(CohortTable.fromStudents(cohort(10)), file);
+        byte[] bytes = Files.readAllBytes(file);
+        Path truncated = dir.resolve("truncated.snap");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(IOException.class, () -> CohortSnapshot.open(truncated));
+    }
+
+    @Test
+    void shouldValidateSectionsOnlyWhenVerifying() throws IOException {
+        int n = 10;
+        Path file = dir.resolve("valid.snap");
+        CohortSnapshot.write(CohortTable.fromStudents(cohort(n)), file);
+        byte[] bytes = Files.readAllBytes(file);
+        int offsetsAt = CohortSnapshot.HEADER_BYTES;
+        int flagsAt = offsetsAt + (n + 1) * Integer.BYTES;
+        int scoresAt = (flagsAt + n + 7) & ~7;
+        int evaluations = ByteBuffer.wrap(bytes).getInt(12);
+        int weightsAt = scoresAt + evaluations * Double.BYTES;
+
+        // Offsets decrecientes: la fila 2 tendría una cantidad negativa de evaluaciones
+        assertCorrupt(bytes, b -> b.putInt(offsetsAt + 3 * Integer.BYTES, b.getInt(offsetsAt + 4 * Integer.BYTES) + 1));
+        // Más de MAX_EVALUATIONS en una fila
+        assertCorrupt(bytes, b -> b.putInt(offsetsAt + Integer.BYTES, 0).putInt(offsetsAt + 2 * Integer.BYTES,
+                Student.MAX_EVALUATIONS + 1));
+        assertCorrupt(bytes, b -> b.put(flagsAt + 3, (byte) 7));
+        assertCorrupt(bytes, b -> b.putDouble(scoresAt, 100.5));
+        assertCorrupt(bytes, b -> b.putDouble(weightsAt + Double.BYTES, Double.NaN));
+        assertCorrupt(bytes, b -> b.putDouble(weightsAt, -1.0));
+    }
+
+    private void assertCorrupt(byte[] valid, Consumer<ByteBuffer> damage) throws IOException {
+        byte[] copy = valid.clone();
+        damage.accept(ByteBuffer.wrap(copy));
+        Path damaged = Files.createTempFile(dir, "damaged", ".snap");
+        Files.write(damaged, copy);
+        assertThrows(IOException.class, () -> CohortSnapshot.open(damaged, true));
+        // Sin verificar solo se comprueban encabezado y secciones: el daño en los datos no se detecta al abrir
+        assertEquals(10, CohortSnapshot.open(damaged).size());
+    }
+}
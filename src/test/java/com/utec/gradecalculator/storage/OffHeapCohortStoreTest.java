@@ -0,0 +1,149 @@
+package com.utec.gradecalculator.storage;
+
+import com.utec.gradecalculator.domain.CohortTable;
+import com.utec.gradecalculator.domain.Evaluation;
+import com.utec.gradecalculator.domain.GradeResult;
+import com.utec.gradecalculator.domain.Student;
+import com.utec.gradecalculator.policy.AllYearsTeachersPolicy;
+import com.utec.gradecalculator.policy.AttendancePolicy;
+import com.utec.gradecalculator.policy.DefaultAttendancePolicy;
+import com.utec.gradecalculator.policy.ExtraPointsPolicy;
+import com.utec.gradecalculator.service.GradeCalculator;
+import com.utec.gradecalculator.service.GradingMetrics;
+import com.utec.gradecalculator.service.GradingMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapCohortStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private static List<Student> cohort(int size) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Student s = new Student("alumno-" + (i % 7));
+            for (int j = 0; j < i % 11; j++) {
+                s.addEvaluation(new Evaluation((i * 17 + j * 3) % 101, 1.0 + j));
+            }
+            s.setHasReachedMinClasses(i % 4 != 0);
+            students.add(s);
+        }
+        return students;
+    }
+
+    private static OffHeapCohortStore store(List<Student> students, int recordsPerChunk) {
+        OffHeapCohortStore store = new OffHeapCohortStore(recordsPerChunk);
+        for (Student s : students) {
+            store.append(s);
+        }
+        return store;
+    }
+
+    @Test
+    void shouldStoreFixedSizeRecordsAcrossChunks() {
+        List<Student> students = cohort(50);
+        OffHeapCohortStore store = store(students, 8);
+
+        assertEquals(50, store.size());
+        assertEquals(7, store.distinctIds());
+        assertEquals(7L * 8 * OffHeapCohortStore.RECORD_BYTES, store.offHeapBytes());
+        int total = 0;
+        for (int i = 0; i < students.size(); i++) {
+            Student expected = students.get(i);
+            assertEquals(expected.getId(), store.getId(i));
+            assertEquals(expected.hasReachedMinClasses(), store.hasReachedMinClasses(i));
+            assertEquals(i * Student.MAX_EVALUATIONS, store.evaluationStart(i));
+            assertEquals(expected.getEvaluations().size(), store.evaluationEnd(i) - store.evaluationStart(i));
+            assertEquals(expected.getEvaluations(), store.toStudent(i).getEvaluations());
+            total += expected.getEvaluations().size();
+        }
+        assertEquals(total, store.evaluationCount());
+    }
+
+    @Test
+    void shouldGradeDirectlyFromOffHeapRecords() {
+        List<Student> students = cohort(60);
+        OffHeapCohortStore store = store(students, 16);
+        AttendancePolicy ap = new DefaultAttendancePolicy(5.0);
+        ExtraPointsPolicy ep = new AllYearsTeachersPolicy(2.5);
+
+        for (GradeCalculator calc : List.of(new GradeCalculator(),
+                new GradeCalculator(GradingMetrics.NOOP, GradingMode.FIXED_POINT))) {
+            List<GradeResult> results = calc.calculateFinalGrades(store, ap, ep, true, true);
+            for (int i = 0; i < students.size(); i++) {
+                assertEquals(calc.calculateFinalGrade(students.get(i), ap, ep, true), results.get(i));
+            }
+        }
+    }
+
+    @Test
+    void snapshotShouldCompactUnusedSlots() throws IOException {
+        List<Student> students = cohort(30);
+        OffHeapCohortStore store = store(students, 4);
+        Path file = dir.resolve("archive.snap");
+
+        CohortSnapshot.write(store, file);
+        CohortSnapshot snapshot = CohortSnapshot.open(file);
+        CohortTable table = CohortTable.fromStudents(students);
+
+        assertEquals(table.evaluationCount(), snapshot.evaluationCount());
+        for (int i = 0; i < table.size(); i++) {
+            assertEquals(table.evaluationStart(i), snapshot.evaluationStart(i));
+            assertEquals(table.evaluationEnd(i), snapshot.evaluationEnd(i));
+        }
+        for (int j = 0; j < table.evaluationCount(); j++) {
+            assertEquals(table.getScore(j), snapshot.getScore(j), 0.0);
+            assertEquals(table.getWeight(j), snapshot.getWeight(j), 0.0);
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidRows() {
+        OffHeapCohortStore store = new OffHeapCohortStore();
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> store.append("a", true, new double[]{50.0, 101.0, -1.0}, new double[]{1.0, 1.0, 1.0}));
+        assertEquals("2 invalid evaluations (first at index 1)", ex.getMessage());
+        assertThrows(IllegalArgumentException.class,
+                () -> store.append("a", true, new double[]{50.0}, new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> store.append("a", true,
+                new double[Student.MAX_EVALUATIONS + 1], new double[Student.MAX_EVALUATIONS + 1]));
+        assertThrows(IllegalArgumentException.class, () -> store.append("  ", true, new double[0], new double[0]));
+        assertThrows(NullPointerException.class, () -> store.append(null));
+
+        assertEquals(0, store.size());
+        assertEquals(0L, store.offHeapBytes());
+        assertThrows(IndexOutOfBoundsException.class, () -> store.getId(0));
+    }
+
+    @Test
+    void shouldRejectEvaluationIndicesOutsideEveryRow() {
+        OffHeapCohortStore store = new OffHeapCohortStore(2);
+        store.append("a", true, new double[]{70.0, 80.0}, new double[]{1.0, 2.0});
+        store.append("b", true, new double[0], new double[0]);
+        store.append("c", false, new double[]{90.0}, new double[]{3.0});
+
+        assertEquals(80.0, store.getScore(store.evaluationEnd(0) - 1), 0.0);
+        assertEquals(3.0, store.getWeight(store.evaluationStart(2)), 0.0);
+        for (int j : new int[]{-1, store.evaluationEnd(0), Student.MAX_EVALUATIONS - 1,
+                store.evaluationStart(1), store.evaluationEnd(2), 3 * Student.MAX_EVALUATIONS}) {
+            assertThrows(IndexOutOfBoundsException.class, () -> store.getScore(j), "index " + j);
+            assertThrows(IndexOutOfBoundsException.class, () -> store.getWeight(j), "index " + j);
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidChunkSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapCohortStore(0));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapCohortStore(12));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapCohortStore(1 << 30));
+    }
+}
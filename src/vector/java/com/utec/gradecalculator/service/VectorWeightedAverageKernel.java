@@ -0,0 +1,82 @@
+package com.utec.gradecalculator.service;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Kernel SIMD sobre {@code jdk.incubator.vector}. Solo se carga (vía {@link KernelLoader}) si el
+ * módulo incubador está disponible en tiempo de ejecución.
+ *
+ * Cada carril es un estudiante: se procesan {@code SPECIES.length()} filas a la vez y en el paso
+ * {@code k} se leen por offset (gather) sus evaluaciones {@code k}, así cada fila suma sus
+ * evaluaciones en el mismo orden que el kernel escalar. Mientras todas las filas del grupo tienen
+ * evaluación {@code k} el gather no usa máscara; los pasos restantes enmascaran las filas que ya no
+ * tienen evaluaciones (en JDK 17 ese gather no está intrínsecado, por eso se limita a esos pasos).
+ */
+final class VectorWeightedAverageKernel implements WeightedAverageKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    // Mismo número de carriles que SPECIES, para leer los offsets de un grupo de filas de una vez
+    private static final VectorSpecies<Integer> OFFSET_SPECIES =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(SPECIES.length() * Integer.SIZE));
+
+    @Override
+    public void weightedAverages(double[] scores, double[] weights, int[] offsets, int students, double[] out) {
+        ScalarWeightedAverageKernel.checkArguments(scores, weights, offsets, students, out);
+        int lanes = SPECIES.length();
+        int[] index = new int[lanes];
+        DoubleVector zero = DoubleVector.zero(SPECIES);
+        int i = 0;
+        int upper = SPECIES.loopBound(students);
+        for (; i < upper; i += lanes) {
+            IntVector starts = IntVector.fromArray(OFFSET_SPECIES, offsets, i);
+            IntVector counts = IntVector.fromArray(OFFSET_SPECIES, offsets, i + 1).sub(starts).max(0);
+            int common = counts.reduceLanes(VectorOperators.MIN);
+            int longest = counts.reduceLanes(VectorOperators.MAX);
+
+            DoubleVector weightedScores = zero;
+            DoubleVector weightSums = zero;
+            int k = 0;
+            for (; k < common; k++) {
+                // Índices absolutos con offset 0: el gather con offset distinto de 0 hace fallar a C2 en JDK 17
+                starts.add(k).intoArray(index, 0);
+                DoubleVector s = DoubleVector.fromArray(SPECIES, scores, 0, index, 0);
+                DoubleVector w = DoubleVector.fromArray(SPECIES, weights, 0, index, 0);
+                weightedScores = s.fma(w, weightedScores);
+                weightSums = weightSums.add(w);
+            }
+            for (; k < longest; k++) {
+                // Los carriles sin evaluación k quedan en 0.0 y no cambian las sumas
+                VectorMask<Double> active = counts.compare(VectorOperators.GT, k).cast(SPECIES);
+                starts.add(k).intoArray(index, 0);
+                DoubleVector s = DoubleVector.fromArray(SPECIES, scores, 0, index, 0, active);
+                DoubleVector w = DoubleVector.fromArray(SPECIES, weights, 0, index, 0, active);
+                weightedScores = s.fma(w, weightedScores);
+                weightSums = weightSums.add(w);
+            }
+            // Sin peso el promedio es 0.0, como en el kernel escalar
+            VectorMask<Double> positive = weightSums.compare(VectorOperators.GT, 0.0);
+            zero.blend(weightedScores.div(weightSums), positive).intoArray(out, i);
+        }
+        // Cola escalar: menos de un grupo de filas
+        for (; i < students; i++) {
+            double sumWeightedScores = 0.0;
+            double sumWeights = 0.0;
+            int end = offsets[i + 1];
+            for (int j = offsets[i]; j < end; j++) {
+                sumWeightedScores += scores[j] * weights[j];
+                sumWeights += weights[j];
+            }
+            out[i] = (sumWeights > 0.0) ? sumWeightedScores / sumWeights : 0.0;
+        }
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + SPECIES.vectorBitSize();
+    }
+}